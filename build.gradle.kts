@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,8 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -38,6 +41,19 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark tasks
+// ./gradlew jmh -PjmhIncludes=PointServiceBenchmark
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(2)
+    warmup.set("2s")
+    iterations.set(3)
+    timeOnIteration.set("3s")
+    resultFormat.set("JSON")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.domain.point.ActorPointService;
+import io.hhplus.tdd.domain.point.ActorProperties;
+import io.hhplus.tdd.domain.point.CasPointService;
+import io.hhplus.tdd.domain.point.GroupCommitPointService;
+import io.hhplus.tdd.domain.point.HotUserDetector;
+import io.hhplus.tdd.domain.point.HotUserProperties;
+import io.hhplus.tdd.domain.point.PointMetrics;
+import io.hhplus.tdd.domain.point.PointRepository;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.PointServiceImpl;
+import io.hhplus.tdd.domain.point.PointValidator;
+import io.hhplus.tdd.infrastructure.point.PointHistoryIndex;
+import io.hhplus.tdd.infrastructure.point.PointHistoryOutbox;
+import io.hhplus.tdd.infrastructure.point.OffHeapUserPointStore;
+import io.hhplus.tdd.infrastructure.point.PointHistoryOutboxProperties;
+import io.hhplus.tdd.infrastructure.point.PointRepositoryImpl;
+import io.hhplus.tdd.infrastructure.point.PointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.PointStorageProperties;
+import io.hhplus.tdd.infrastructure.point.PointSummaryAggregator;
+import io.hhplus.tdd.infrastructure.point.PointWriteAheadLog;
+import io.hhplus.tdd.infrastructure.point.PointWriteAheadLogProperties;
+import io.hhplus.tdd.infrastructure.point.TablePointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.TableUserPointStore;
+import io.hhplus.tdd.infrastructure.point.UserPointCache;
+import io.hhplus.tdd.infrastructure.point.UserPointCacheProperties;
+import io.hhplus.tdd.infrastructure.point.UserPointSingleFlight;
+import io.hhplus.tdd.infrastructure.point.UserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크에서 사용할 포인트 서비스/저장소를 스프링 컨텍스트 없이 조립한다.
+ */
+final class PointFixture {
+
+    final UserPointStore userPointStore;
+    final ScaledPointHistoryTable pointHistoryTable;
+    final PointHistoryIndex pointHistoryIndex;
+    final PointRepository pointRepository;
+    final PointService pointService;
+
+    private PointFixture(double throttleScale, int cacheSize, String writeMode, String balanceStore) {
+        Throttle throttle = new Throttle(throttleScale);
+        WorkerThreads workerThreads = new WorkerThreads(new StandardEnvironment());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+        this.userPointStore = createUserPointStore(balanceStore, throttle);
+        this.pointHistoryTable = new ScaledPointHistoryTable(throttle);
+        this.pointHistoryIndex = new PointHistoryIndex();
+
+        UserPointCache userPointCache = new UserPointCache(new UserPointCacheProperties(cacheSize, Duration.ofMinutes(10)), meterRegistry);
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex);
+        PointHistoryOutbox pointHistoryOutbox = new PointHistoryOutbox(
+                new PointHistoryOutboxProperties(false, 0, 0, Duration.ZERO, Duration.ZERO, 0, 0, Duration.ZERO),
+                pointHistoryStore, workerThreads, meterRegistry);
+
+        PointSummaryAggregator pointSummaryAggregator = new PointSummaryAggregator(pointHistoryStore);
+        PointWriteAheadLog pointWriteAheadLog = new PointWriteAheadLog(
+                new PointWriteAheadLogProperties(false, null, 10_000), userPointStore, pointHistoryStore, pointSummaryAggregator);
+
+        this.pointRepository = new PointRepositoryImpl(
+                userPointStore, pointHistoryStore, userPointCache, new UserPointSingleFlight(), pointHistoryOutbox,
+                pointSummaryAggregator, pointWriteAheadLog, pointMetrics);
+
+        PointValidator pointValidator = new PointValidator(pointMetrics);
+        HotUserDetector hotUserDetector = new HotUserDetector(
+                new HotUserProperties(false, 0, Duration.ZERO, Duration.ZERO, 1, 1, 1), workerThreads);
+        this.pointService = switch (writeMode) {
+            case "lock" -> new PointServiceImpl(pointValidator, pointRepository, pointMetrics, hotUserDetector);
+            case "group-commit" -> new GroupCommitPointService(pointValidator, pointRepository);
+            case "cas" -> new CasPointService(pointValidator, pointRepository);
+            case "actor" -> new ActorPointService(pointValidator, pointRepository, new ActorProperties(16, 32), workerThreads);
+            default -> throw new IllegalArgumentException("unknown write mode: " + writeMode);
+        };
+    }
+
+    static PointFixture create(double throttleScale, int cacheSize, String writeMode) {
+        return create(throttleScale, cacheSize, writeMode, "table");
+    }
+
+    static PointFixture create(double throttleScale, int cacheSize, String writeMode, String balanceStore) {
+        return new PointFixture(throttleScale, cacheSize, writeMode, balanceStore);
+    }
+
+    static UserPointStore createUserPointStore(String balanceStore, Throttle throttle) {
+        return switch (balanceStore) {
+            case "table" -> new TableUserPointStore(new ScaledUserPointTable(throttle));
+            case "off-heap" -> new OffHeapUserPointStore(new PointStorageProperties(balanceStore, 1 << 16, "table"));
+            default -> throw new IllegalArgumentException("unknown balance store: " + balanceStore);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 내역 조회 벤치마크
+ * - 전체 내역 수(historySize)를 늘려가며 테이블 전체 탐색, 유저별 인덱스 조회, 페이지 조회 비용을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int historySize;
+
+    @Param({"100"})
+    public int userCount;
+
+    private PointFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = PointFixture.create(0, 0, "lock");
+        for (int i = 0; i < historySize; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            fixture.pointRepository.insert(i % userCount + 1, 10L, type, System.currentTimeMillis());
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return fixture.pointHistoryTable.selectAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> indexRead() {
+        return fixture.pointRepository.selectAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> indexFirstPage() {
+        return fixture.pointRepository.selectHistories(randomUserId(), PointHistoryQuery.first(20));
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+}
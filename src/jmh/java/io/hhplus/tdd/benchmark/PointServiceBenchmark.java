@@ -0,0 +1,115 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 서비스 처리량 벤치마크
+ * - 충전 후 같은 금액을 사용하는 한 쌍을 하나의 작업으로 측정한다. (잔액이 최대 포인트를 넘지 않도록)
+ * - throttleScale 로 테이블 지연을 없애거나 줄여서, 지연과 CPU 비용(락, 조회, 할당)을 나눠서 볼 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+
+    @Param({"0", "0.01"})
+    public double throttleScale;
+
+    @Param({"lock", "group-commit"})
+    public String writeMode;
+
+    @Param({"10000"})
+    public int cacheSize;
+
+    @Param({"table"})
+    public String balanceStore;
+
+    @Param({"100000"})
+    public int userCount;
+
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointService = PointFixture.create(throttleScale, cacheSize, writeMode, balanceStore).pointService;
+    }
+
+    // 한 유저에 8개 스레드가 몰리는 경우
+    @Benchmark
+    @Threads(8)
+    public UserPoint singleUserContention() {
+        return chargeAndUse(HOT_USER_ID);
+    }
+
+    // 8개 스레드가 여러 유저에 고르게 퍼지는 경우
+    @Benchmark
+    @Threads(8)
+    public UserPoint manyUsersSpread() {
+        return chargeAndUse(randomUserId());
+    }
+
+    // 한 유저의 잔액을 8개 스레드가 동시에 조회하는 경우 (-p cacheSize=0 이면 single-flight 효과를 볼 수 있다)
+    @Benchmark
+    @Threads(8)
+    public UserPoint singleUserReads() {
+        return pointService.get(HOT_USER_ID);
+    }
+
+    // 조회 7 : 쓰기 1
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public UserPoint readHeavyRead() {
+        return pointService.get(randomUserId());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public UserPoint readHeavyWrite() {
+        return chargeAndUse(randomUserId());
+    }
+
+    // 조회 1 : 쓰기 7
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public UserPoint writeHeavyRead() {
+        return pointService.get(randomUserId());
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(7)
+    public UserPoint writeHeavyWrite() {
+        return chargeAndUse(randomUserId());
+    }
+
+    private UserPoint chargeAndUse(long userId) {
+        pointService.charge(userId, 1L, TransactionType.CHARGE);
+        return pointService.use(userId, 1L, TransactionType.USE);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.PointBinaryCodec;
+import io.hhplus.tdd.PointRequest;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 API 응답/요청 인코딩 벤치마크
+ * - JSON(Jackson)과 바이너리 인코딩(PointBinaryCodec)의 인코딩/디코딩 비용을 비교한다.
+ * - 할당량은 -prof gc 로 함께 확인한다.
+ *   (./gradlew jmh -PjmhIncludes=PointWireFormatBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointWireFormatBenchmark {
+
+    private static final TypeReference<List<PointHistory>> HISTORIES = new TypeReference<>() {
+    };
+
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"100"})
+    public int historySize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserPoint userPoint;
+    private List<PointHistory> pointHistories;
+    private byte[] encodedRequest;
+    private byte[] encodedHistories;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        long now = System.currentTimeMillis();
+        userPoint = new UserPoint(1L, 123_456L, now);
+        pointHistories = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            pointHistories.add(new PointHistory(i + 1, 1L, 1_000L + i, type, now + i));
+        }
+        PointRequest request = new PointRequest(1_000L, "order-20240101-000001");
+
+        encodedRequest = isJson() ? objectMapper.writeValueAsBytes(request) : PointBinaryCodec.encodeRequest(request);
+        encodedHistories = isJson() ? objectMapper.writeValueAsBytes(pointHistories) : PointBinaryCodec.encodeHistories(pointHistories);
+    }
+
+    @Benchmark
+    public byte[] encodeUserPoint() throws IOException {
+        return isJson() ? objectMapper.writeValueAsBytes(userPoint) : PointBinaryCodec.encodeUserPoint(userPoint);
+    }
+
+    @Benchmark
+    public PointRequest decodeRequest() throws IOException {
+        return isJson() ? objectMapper.readValue(encodedRequest, PointRequest.class) : PointBinaryCodec.decodeRequest(encodedRequest);
+    }
+
+    @Benchmark
+    public byte[] encodeHistories() throws IOException {
+        return isJson() ? objectMapper.writeValueAsBytes(pointHistories) : PointBinaryCodec.encodeHistories(pointHistories);
+    }
+
+    @Benchmark
+    public List<PointHistory> decodeHistories() throws IOException {
+        return isJson() ? objectMapper.readValue(encodedHistories, HISTORIES) : PointBinaryCodec.decodeHistories(encodedHistories);
+    }
+
+    private boolean isJson() {
+        return "json".equals(format);
+    }
+}
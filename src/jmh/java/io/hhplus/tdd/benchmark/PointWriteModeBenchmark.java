@@ -0,0 +1,65 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 유저에 요청이 몰릴 때 쓰기 방식(lock / group-commit / cas / actor)별 처리량 비교
+ * - 스레드 수 1, 8, 64 에서 같은 유저에 충전 후 사용을 반복한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointWriteModeBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+
+    @Param({"0", "0.01"})
+    public double throttleScale;
+
+    @Param({"lock", "group-commit", "cas", "actor"})
+    public String writeMode;
+
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointService = PointFixture.create(throttleScale, 10_000, writeMode).pointService;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint singleUser1Thread() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint singleUser8Threads() {
+        return chargeAndUse();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public UserPoint singleUser64Threads() {
+        return chargeAndUse();
+    }
+
+    private UserPoint chargeAndUse() {
+        pointService.charge(HOT_USER_ID, 1L, TransactionType.CHARGE);
+        return pointService.use(HOT_USER_ID, 1L, TransactionType.USE);
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 벤치마크용 PointHistoryTable
+ * - 지연 시간을 Throttle 비율만큼 줄이고, 원래 테이블처럼 전체 리스트를 훑어서 유저별 내역을 조회한다.
+ */
+class ScaledPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final Lock lock = new ReentrantLock();
+    private final Throttle throttle;
+    private long cursor = 1;
+
+    ScaledPointHistoryTable(Throttle throttle) {
+        this.throttle = throttle;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        throttle.sleep(300);
+        lock.lock();
+        try {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        lock.lock();
+        try {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
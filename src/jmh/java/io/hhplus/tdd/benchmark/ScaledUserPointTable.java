@@ -0,0 +1,35 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.domain.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 UserPointTable
+ * - 지연 시간을 Throttle 비율만큼 줄이고, 여러 스레드에서 동시에 사용할 수 있도록 ConcurrentHashMap 에 저장한다.
+ */
+class ScaledUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final Throttle throttle;
+
+    ScaledUserPointTable(Throttle throttle) {
+        this.throttle = throttle;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        throttle.sleep(200);
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        throttle.sleep(300);
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 테이블 지연(throttle)을 비율(scale)만큼 줄여서 흉내낸다.
+ * - scale 0 : 지연 없음 (락, 조회, 할당 같은 CPU 비용만 측정)
+ * - scale 1 : 원래 테이블과 같은 지연
+ */
+final class Throttle {
+
+    private final double scale;
+
+    Throttle(double scale) {
+        this.scale = scale;
+    }
+
+    void sleep(long millis) {
+        if (scale <= 0) {
+            return;
+        }
+        long nanos = (long) (ThreadLocalRandom.current().nextDouble() * millis * scale * 1_000_000L);
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+}
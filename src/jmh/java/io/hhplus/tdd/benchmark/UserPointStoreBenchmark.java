@@ -0,0 +1,61 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.infrastructure.point.UserPointStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장소 벤치마크
+ * - 지연 없는 UserPointTable(HashMap + UserPoint 객체)과 off-heap 잔액 저장소의 조회/저장 비용을 비교한다.
+ * - 할당량과 GC 비용은 -prof gc 로 함께 확인한다. (./gradlew jmh -PjmhIncludes=UserPointStoreBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserPointStoreBenchmark {
+
+    @Param({"table", "off-heap"})
+    public String balanceStore;
+
+    @Param({"100000", "1000000"})
+    public int userCount;
+
+    private UserPointStore userPointStore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userPointStore = PointFixture.createUserPointStore(balanceStore, new Throttle(0));
+        for (long id = 1; id <= userCount; id++) {
+            userPointStore.insertOrUpdate(id, id % UserPoint.MAX_POINTS);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint select() {
+        return userPointStore.selectById(randomUserId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint insertOrUpdate() {
+        long id = randomUserId();
+        return userPointStore.insertOrUpdate(id, id % UserPoint.MAX_POINTS);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, userCount + 1);
+    }
+}
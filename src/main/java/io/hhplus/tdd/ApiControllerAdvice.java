@@ -20,4 +20,14 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     public ResponseEntity<ErrorResponse> bizHandleException(BizException e) {
         return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
     }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> conflictHandleException(ConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> tooManyRequestsHandleException(TooManyRequestsException e) {
+        return ResponseEntity.status(429).body(new ErrorResponse("429", e.getMessage()));
+    }
 }
@@ -0,0 +1,10 @@
+package io.hhplus.tdd;
+
+/**
+ * 이미 처리한 요청과 충돌하는 요청인 경우 (409)
+ */
+public class ConflictException extends BizException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
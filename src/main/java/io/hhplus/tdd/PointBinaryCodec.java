@@ -0,0 +1,220 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 API 바이너리 인코딩
+ * - 숫자는 모두 big-endian 고정 길이(long 8 바이트, int 4 바이트)로, TransactionType 은 순서(1 바이트)로 기록한다.
+ * - 문자열은 길이(int, null 이면 -1) 뒤에 UTF-8 바이트를 기록한다.
+ * - 리플렉션 없이 byte[] 에 바로 읽고 쓴다.
+ *
+ *   UserPoint    [id | point | updateMillis]                                  24 바이트
+ *   PointHistory [id | userId | amount | updateMillis | type(1) | granularity(1) | bucketFirstId | bucketCount]  50 바이트
+ *                (원본 내역은 granularity 0, 집계 내역은 1(DAY)/2(MONTH) 이고 원본 내역의 bucketFirstId, bucketCount 는 0)
+ *   내역 목록     [count(4) | PointHistory ...]
+ *   PointSummary [userId | totalCharged | totalUsed | chargeCount | useCount | firstUpdateMillis | lastUpdateMillis]  56 바이트
+ *   PointRequest [amount | idempotencyKey(문자열)]
+ *   ErrorResponse [code(문자열) | message(문자열)]
+ */
+public final class PointBinaryCodec {
+
+    public static final int USER_POINT_SIZE = 24;
+    public static final int HISTORY_SIZE = 50;
+    public static final int SUMMARY_SIZE = 56;
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final PointHistory.Granularity[] GRANULARITIES = PointHistory.Granularity.values();
+
+    private PointBinaryCodec() {
+    }
+
+    public static byte[] encodeUserPoint(UserPoint userPoint) {
+        byte[] bytes = new byte[USER_POINT_SIZE];
+        LONG.set(bytes, 0, userPoint.id());
+        LONG.set(bytes, 8, userPoint.point());
+        LONG.set(bytes, 16, userPoint.updateMillis());
+        return bytes;
+    }
+
+    public static UserPoint decodeUserPoint(byte[] bytes) {
+        checkLength(bytes, USER_POINT_SIZE);
+        return new UserPoint((long) LONG.get(bytes, 0), (long) LONG.get(bytes, 8), (long) LONG.get(bytes, 16));
+    }
+
+    public static byte[] encodeHistory(PointHistory pointHistory) {
+        byte[] bytes = new byte[HISTORY_SIZE];
+        putHistory(bytes, 0, pointHistory);
+        return bytes;
+    }
+
+    public static PointHistory decodeHistory(byte[] bytes) {
+        checkLength(bytes, HISTORY_SIZE);
+        return getHistory(bytes, 0);
+    }
+
+    public static byte[] encodeHistories(List<PointHistory> pointHistories) {
+        int count = pointHistories.size();
+        byte[] bytes = new byte[4 + count * HISTORY_SIZE];
+        INT.set(bytes, 0, count);
+        for (int i = 0; i < count; i++) {
+            putHistory(bytes, 4 + i * HISTORY_SIZE, pointHistories.get(i));
+        }
+        return bytes;
+    }
+
+    public static List<PointHistory> decodeHistories(byte[] bytes) {
+        int count = bytes.length >= 4 ? (int) INT.get(bytes, 0) : -1;
+        if (count < 0) {
+            throw new IllegalArgumentException("invalid point history count");
+        }
+        checkLength(bytes, 4 + (long) count * HISTORY_SIZE);
+        List<PointHistory> pointHistories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pointHistories.add(getHistory(bytes, 4 + i * HISTORY_SIZE));
+        }
+        return pointHistories;
+    }
+
+    public static byte[] encodeSummary(PointSummary summary) {
+        byte[] bytes = new byte[SUMMARY_SIZE];
+        LONG.set(bytes, 0, summary.userId());
+        LONG.set(bytes, 8, summary.totalCharged());
+        LONG.set(bytes, 16, summary.totalUsed());
+        LONG.set(bytes, 24, summary.chargeCount());
+        LONG.set(bytes, 32, summary.useCount());
+        LONG.set(bytes, 40, summary.firstUpdateMillis());
+        LONG.set(bytes, 48, summary.lastUpdateMillis());
+        return bytes;
+    }
+
+    public static PointSummary decodeSummary(byte[] bytes) {
+        checkLength(bytes, SUMMARY_SIZE);
+        return new PointSummary(
+                (long) LONG.get(bytes, 0),
+                (long) LONG.get(bytes, 8),
+                (long) LONG.get(bytes, 16),
+                (long) LONG.get(bytes, 24),
+                (long) LONG.get(bytes, 32),
+                (long) LONG.get(bytes, 40),
+                (long) LONG.get(bytes, 48));
+    }
+
+    public static byte[] encodeRequest(PointRequest request) {
+        byte[] key = utf8(request.idempotencyKey());
+        byte[] bytes = new byte[8 + stringSize(key)];
+        LONG.set(bytes, 0, request.amount());
+        putString(bytes, 8, key);
+        return bytes;
+    }
+
+    public static PointRequest decodeRequest(byte[] bytes) {
+        if (bytes.length < 12) {
+            throw new IllegalArgumentException("point request is too short");
+        }
+        String idempotencyKey = getString(bytes, 8);
+        checkLength(bytes, stringEnd(bytes, 8));
+        return new PointRequest((long) LONG.get(bytes, 0), idempotencyKey);
+    }
+
+    public static byte[] encodeError(ErrorResponse error) {
+        byte[] code = utf8(error.code());
+        byte[] message = utf8(error.message());
+        byte[] bytes = new byte[stringSize(code) + stringSize(message)];
+        putString(bytes, putString(bytes, 0, code), message);
+        return bytes;
+    }
+
+    public static ErrorResponse decodeError(byte[] bytes) {
+        String code = getString(bytes, 0);
+        return new ErrorResponse(code, getString(bytes, stringEnd(bytes, 0)));
+    }
+
+    private static void putHistory(byte[] bytes, int offset, PointHistory pointHistory) {
+        LONG.set(bytes, offset, pointHistory.id());
+        LONG.set(bytes, offset + 8, pointHistory.userId());
+        LONG.set(bytes, offset + 16, pointHistory.amount());
+        LONG.set(bytes, offset + 24, pointHistory.updateMillis());
+        bytes[offset + 32] = (byte) pointHistory.type().ordinal();
+        PointHistory.Bucket bucket = pointHistory.bucket();
+        if (bucket != null) {
+            bytes[offset + 33] = (byte) (bucket.granularity().ordinal() + 1);
+            LONG.set(bytes, offset + 34, bucket.firstId());
+            LONG.set(bytes, offset + 42, bucket.count());
+        }
+    }
+
+    private static PointHistory getHistory(byte[] bytes, int offset) {
+        int type = bytes[offset + 32];
+        if (type < 0 || type >= TYPES.length) {
+            throw new IllegalArgumentException("invalid transaction type: " + type);
+        }
+        int granularity = bytes[offset + 33];
+        if (granularity < 0 || granularity > GRANULARITIES.length) {
+            throw new IllegalArgumentException("invalid bucket granularity: " + granularity);
+        }
+        PointHistory.Bucket bucket = granularity == 0 ? null : new PointHistory.Bucket(
+                GRANULARITIES[granularity - 1], (long) LONG.get(bytes, offset + 34), (long) LONG.get(bytes, offset + 42));
+        return new PointHistory(
+                (long) LONG.get(bytes, offset),
+                (long) LONG.get(bytes, offset + 8),
+                (long) LONG.get(bytes, offset + 16),
+                TYPES[type],
+                (long) LONG.get(bytes, offset + 24),
+                bucket);
+    }
+
+    // 문자열을 기록하고 다음 위치를 반환한다.
+    private static int putString(byte[] bytes, int offset, byte[] value) {
+        INT.set(bytes, offset, value == null ? -1 : value.length);
+        if (value == null) {
+            return offset + 4;
+        }
+        System.arraycopy(value, 0, bytes, offset + 4, value.length);
+        return offset + 4 + value.length;
+    }
+
+    private static String getString(byte[] bytes, int offset) {
+        if (bytes.length < offset + 4) {
+            throw new IllegalArgumentException("string length is missing");
+        }
+        int length = (int) INT.get(bytes, offset);
+        if (length < 0) {
+            return null;
+        }
+        if (length > bytes.length - offset - 4) {
+            throw new IllegalArgumentException("string is truncated");
+        }
+        return new String(bytes, offset + 4, length, StandardCharsets.UTF_8);
+    }
+
+    // getString 으로 읽은 문자열 다음 위치
+    private static int stringEnd(byte[] bytes, int offset) {
+        return offset + 4 + Math.max(0, (int) INT.get(bytes, offset));
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static void checkLength(byte[] bytes, long expected) {
+        if (bytes.length != expected) {
+            throw new IllegalArgumentException("expected " + expected + " bytes but was " + bytes.length);
+        }
+    }
+}
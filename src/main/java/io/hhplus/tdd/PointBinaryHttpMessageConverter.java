@@ -0,0 +1,123 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.domain.point.UserPoint;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 포인트 API 의 바이너리 인코딩(application/x-point-binary) 변환기
+ * - 클라이언트가 Accept / Content-Type 으로 이 형식을 요청한 경우에만 사용되고, 기본 형식은 JSON 이다.
+ * - UserPoint, PointHistory(목록 포함), PointSummary, PointRequest, ErrorResponse 를 지원한다.
+ */
+public class PointBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-point-binary";
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
+    public PointBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == UserPoint.class
+                || clazz == PointHistory.class
+                || clazz == PointSummary.class
+                || clazz == PointRequest.class
+                || clazz == ErrorResponse.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isSupported(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isSupported(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        if (isHistoryList(type)) {
+            return decode(inputMessage, PointBinaryCodec::decodeHistories);
+        }
+        if (type instanceof Class<?> clazz) {
+            return readInternal(clazz, inputMessage);
+        }
+        throw new HttpMessageNotReadableException("unsupported type: " + type, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (clazz == UserPoint.class) {
+            return decode(inputMessage, PointBinaryCodec::decodeUserPoint);
+        }
+        if (clazz == PointHistory.class) {
+            return decode(inputMessage, PointBinaryCodec::decodeHistory);
+        }
+        if (clazz == PointSummary.class) {
+            return decode(inputMessage, PointBinaryCodec::decodeSummary);
+        }
+        if (clazz == PointRequest.class) {
+            return decode(inputMessage, PointBinaryCodec::decodeRequest);
+        }
+        if (clazz == ErrorResponse.class) {
+            return decode(inputMessage, PointBinaryCodec::decodeError);
+        }
+        throw new HttpMessageNotReadableException("unsupported type: " + clazz, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes;
+        if (value instanceof UserPoint userPoint) {
+            bytes = PointBinaryCodec.encodeUserPoint(userPoint);
+        } else if (value instanceof PointHistory pointHistory) {
+            bytes = PointBinaryCodec.encodeHistory(pointHistory);
+        } else if (value instanceof List<?> pointHistories) {
+            bytes = PointBinaryCodec.encodeHistories((List<PointHistory>) pointHistories);
+        } else if (value instanceof PointSummary summary) {
+            bytes = PointBinaryCodec.encodeSummary(summary);
+        } else if (value instanceof PointRequest request) {
+            bytes = PointBinaryCodec.encodeRequest(request);
+        } else if (value instanceof ErrorResponse error) {
+            bytes = PointBinaryCodec.encodeError(error);
+        } else {
+            throw new HttpMessageNotWritableException("unsupported type: " + value.getClass());
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    private boolean isSupported(Type type) {
+        return type instanceof Class<?> clazz ? supports(clazz) : isHistoryList(type);
+    }
+
+    private static boolean isHistoryList(Type type) {
+        return type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == List.class
+                && parameterizedType.getActualTypeArguments()[0] == PointHistory.class;
+    }
+
+    private static <T> T decode(HttpInputMessage inputMessage, Function<byte[], T> decoder) throws IOException {
+        try {
+            return decoder.apply(inputMessage.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("invalid point binary message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+}
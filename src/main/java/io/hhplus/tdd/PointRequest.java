@@ -0,0 +1,14 @@
+package io.hhplus.tdd;
+
+/**
+ * 충전/사용 요청
+ * - idempotencyKey : 재시도 요청을 구분하기 위한 키 (선택). 같은 키로 다시 요청하면 처음 요청의 결과를 그대로 돌려준다.
+ */
+public record PointRequest(
+        long amount,
+        String idempotencyKey
+) {
+    public PointRequest(long amount) {
+        this(amount, null);
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd;
+
+/**
+ * 요청이 몰려 처리하지 못하고 거절한 경우 (429)
+ */
+public class TooManyRequestsException extends BizException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 내부 작업 스레드 생성기
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행 중이면 가상 스레드를, 아니면 데몬 플랫폼 스레드를 만든다.
+ * - 요청 처리 스레드(Tomcat)도 같은 설정으로 가상 스레드를 사용하므로, 내부 작업과 요청 처리가 같은 모드로 동작한다.
+ */
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ThreadFactory factory(String namePrefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory();
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(namePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
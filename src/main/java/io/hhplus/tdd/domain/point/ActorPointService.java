@@ -0,0 +1,188 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * actor 방식의 포인트 서비스 (point.write-mode=actor)
+ * - 처리 중인 명령이 있는 유저마다 mailbox 하나를 두고, 조회/충전/사용 명령을 mailbox 에 넣는다.
+ * - mailbox 는 한 번에 하나의 작업 스레드만 처리하므로 같은 유저의 명령은 들어온 순서대로 하나씩 처리된다. (Lock 없음)
+ * - mailbox 는 처리 중인 동안 잔액을 메모리에 들고 있어서 명령마다 저장소를 다시 읽지 않는다.
+ * - 남은 명령이 없는 mailbox 는 제거(passivate)되고, 다음 명령이 오면 저장소에서 잔액을 다시 읽는다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point", name = "write-mode", havingValue = "actor")
+public class ActorPointService implements PointService {
+
+    private final PointValidator pointValidator;
+    private final PointRepository pointRepository;
+    private final int throughput;
+    private final ExecutorService executorService;
+
+    // 처리되지 않은 명령이 있는 동안에만 유저의 mailbox 를 보관한다.
+    private final ReferenceCountedMap<Mailbox> mailboxes = new ReferenceCountedMap<>(Mailbox::new);
+
+    public ActorPointService(PointValidator pointValidator, PointRepository pointRepository,
+                             ActorProperties properties, WorkerThreads workerThreads) {
+        this.pointValidator = pointValidator;
+        this.pointRepository = pointRepository;
+        this.throughput = Math.max(1, properties.throughput());
+        this.executorService = Executors.newFixedThreadPool(
+                Math.max(1, properties.workers()), workerThreads.factory("point-actor-"));
+    }
+
+    @Override
+    public UserPoint get(long id) {
+        return await(submit(id, 0L, null));
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id) {
+        return pointRepository.selectAllByUserId(id);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id, PointHistoryQuery query) {
+        return pointRepository.selectHistories(id, query);
+    }
+
+    @Override
+    public PointSummary getSummary(long id) {
+        return pointRepository.selectSummary(id);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, TransactionType transactionType) {
+        return await(submit(id, amount, transactionType));
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, TransactionType transactionType) {
+        return await(submit(id, amount, transactionType));
+    }
+
+    /**
+     * 유저의 mailbox 에 명령을 넣고, 처리 결과를 future 로 돌려준다. (transactionType 이 null 이면 조회)
+     */
+    public CompletableFuture<UserPoint> submit(long id, long amount, TransactionType transactionType) {
+        Command command = new Command(amount, transactionType);
+        Mailbox mailbox = mailboxes.retain(id);
+        mailbox.commands.add(command);
+        schedule(mailbox);
+        return command.result;
+    }
+
+    // 현재 보관 중인 mailbox 수
+    public int activeMailboxes() {
+        return mailboxes.size();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            executorService.execute(() -> run(mailbox));
+        }
+    }
+
+    private void run(Mailbox mailbox) {
+        try {
+            for (int i = 0; i < throughput; i++) {
+                Command command = mailbox.commands.poll();
+                if (command == null) {
+                    break;
+                }
+                try {
+                    process(mailbox, command);
+                } finally {
+                    mailboxes.release(mailbox.userId);
+                }
+            }
+        } finally {
+            mailbox.scheduled.set(false);
+            // 처리를 마치는 사이에 들어온 명령이 있으면 다시 스케줄링한다.
+            if (!mailbox.commands.isEmpty()) {
+                schedule(mailbox);
+            }
+        }
+    }
+
+    private void process(Mailbox mailbox, Command command) {
+        long id = mailbox.userId;
+        try {
+            if (mailbox.userPoint == null) {
+                mailbox.userPoint = pointRepository.selectById(id);
+            }
+            if (command.transactionType == null) {
+                command.result.complete(mailbox.userPoint);
+                return;
+            }
+
+            UserPoint userPoint = mailbox.userPoint;
+            long point = userPoint.point();
+            long editPoint = command.transactionType == TransactionType.CHARGE
+                    ? userPoint.addPoint(command.amount)
+                    : userPoint.deductPoints(command.amount);
+
+            pointValidator.validate(point, command.amount, command.transactionType);
+
+            pointRepository.insert(id, command.amount, command.transactionType, System.currentTimeMillis());
+            mailbox.userPoint = pointRepository.insertOrUpdate(id, editPoint);
+            command.result.complete(mailbox.userPoint);
+        } catch (RuntimeException e) {
+            if (!(e instanceof BizException)) {
+                mailbox.userPoint = null; // 저장소 오류가 나면 다음 명령에서 잔액을 다시 읽는다.
+            }
+            command.result.completeExceptionally(e);
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static final class Mailbox {
+        private final long userId;
+        private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private UserPoint userPoint; // mailbox 를 처리 중인 스레드만 읽고 쓴다.
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private static final class Command {
+        private final long amount;
+        private final TransactionType transactionType;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Command(long amount, TransactionType transactionType) {
+            this.amount = amount;
+            this.transactionType = transactionType;
+        }
+    }
+}
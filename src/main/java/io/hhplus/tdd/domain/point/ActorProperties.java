@@ -0,0 +1,16 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * actor 방식 설정 (point.write-mode=actor)
+ * - workers : 유저 mailbox 를 처리하는 스레드 수
+ * - throughput : mailbox 하나를 한 번 스케줄링할 때 처리할 최대 명령 수 (다른 유저에게 차례를 넘기기 위함)
+ */
+@ConfigurationProperties(prefix = "point.actor")
+public record ActorProperties(
+        @DefaultValue("16") int workers,
+        @DefaultValue("32") int throughput
+) {
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 API 설정
+ * - enabled : 비동기 서비스/API(/async/point) 사용 여부
+ * - threads : 블로킹 포인트 서비스 호출을 처리할 스레드 수
+ * - queueCapacity : 처리를 기다리는 호출의 최대 개수 (가득 차면 429 로 거절)
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record AsyncPointProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8") int threads,
+        @DefaultValue("10000") int queueCapacity
+) {
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.domain.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 포인트 서비스
+ * - 결과를 기다리는 동안 호출한 스레드를 붙잡지 않는다.
+ * - 충전/사용의 idempotencyKey 는 동기 API 와 같은 멱등 키이다. (선택)
+ */
+public interface AsyncPointService {
+
+    CompletableFuture<UserPoint> get(long id);
+
+    CompletableFuture<List<PointHistory>> getHistory(long id, PointHistoryQuery query);
+
+    CompletableFuture<UserPoint> charge(long id, long amount, String idempotencyKey);
+
+    CompletableFuture<UserPoint> use(long id, long amount, String idempotencyKey);
+}
@@ -0,0 +1,120 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.TooManyRequestsException;
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 포인트 서비스 (point.async.enabled=true)
+ * - 조회/충전/사용은 동기 API(/point)와 같은 경로로 처리한다.
+ *   PointPartitionRouter 로 담당 노드를 고르고, 현재 노드가 담당하면 설정된 PointService(write-mode)를 멱등 키와 함께 호출한다.
+ *   그래서 동기/비동기 API 의 쓰기가 섞여도 PointService 의 유저별 직렬화, 과열 유저 제한, 메트릭이 그대로 적용된다.
+ * - 블로킹 서비스 호출은 크기가 정해진 전용 스레드 풀에서 실행하므로, 동시에 처리 중인 요청 수와 관계없이 스레드 수가 고정된다.
+ *   대기열이 가득 차면 TooManyRequestsException 으로 실패한 future 를 돌려준다.
+ * - 같은 유저의 비동기 충전/사용은 유저별 CompletableFuture 체인으로 요청 순서대로 처리한다.
+ *   앞선 요청을 기다리는 동안에는 어떤 스레드도 점유하지 않고, 체인에 남은 요청이 없으면 유저의 체인을 제거한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "point.async", name = "enabled", havingValue = "true")
+public class AsyncPointServiceImpl implements AsyncPointService {
+
+    private final PointPartitionRouter pointPartitionRouter;
+    private final PointIdempotencyCache pointIdempotencyCache;
+    private final ThreadPoolExecutor executor;
+
+    // 유저별로 마지막에 들어온 요청이 끝나면 완료되는 future
+    private final Map<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public AsyncPointServiceImpl(PointPartitionRouter pointPartitionRouter, PointIdempotencyCache pointIdempotencyCache,
+                                 AsyncPointProperties properties, WorkerThreads workerThreads) {
+        this.pointPartitionRouter = pointPartitionRouter;
+        this.pointIdempotencyCache = pointIdempotencyCache;
+        int threads = Math.max(1, properties.threads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                workerThreads.factory("point-async-"));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> get(long id) {
+        PointService pointService = pointPartitionRouter.serviceFor(id);
+        return submit(() -> pointService.get(id));
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> getHistory(long id, PointHistoryQuery query) {
+        PointService pointService = pointPartitionRouter.serviceFor(id);
+        return submit(() -> pointService.getHistory(id, query));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> charge(long id, long amount, String idempotencyKey) {
+        return update(id, amount, idempotencyKey, TransactionType.CHARGE);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> use(long id, long amount, String idempotencyKey) {
+        return update(id, amount, idempotencyKey, TransactionType.USE);
+    }
+
+    // 멱등 키는 유저를 담당하는 노드에서만 확인한다. 다른 노드가 담당하면 키를 함께 전달한다. (PointController 와 같음)
+    private CompletableFuture<UserPoint> update(long id, long amount, String idempotencyKey, TransactionType transactionType) {
+        PointNode remoteNode = pointPartitionRouter.remoteFor(id);
+        if (remoteNode != null) {
+            return serialize(id, () -> submit(() -> transactionType == TransactionType.CHARGE
+                    ? remoteNode.charge(id, amount, idempotencyKey)
+                    : remoteNode.use(id, amount, idempotencyKey)));
+        }
+        PointService pointService = pointPartitionRouter.serviceFor(id);
+        return serialize(id, () -> submit(() -> pointIdempotencyCache.execute(idempotencyKey, id, amount, transactionType,
+                () -> transactionType == TransactionType.CHARGE
+                        ? pointService.charge(id, amount, transactionType)
+                        : pointService.use(id, amount, transactionType))));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    // 같은 유저의 앞선 요청이 끝난 뒤에 operation 을 시작한다. (성공/실패와 관계없이)
+    private <T> CompletableFuture<T> serialize(long id, Supplier<CompletableFuture<T>> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> done = result.handle((value, error) -> null);
+
+        CompletableFuture<Void> previous = tails.put(id, done);
+        done.whenComplete((value, error) -> tails.remove(id, done));
+
+        (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                .thenCompose(ignored -> operation.get())
+                .whenComplete((value, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
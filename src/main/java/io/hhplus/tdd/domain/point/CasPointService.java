@@ -0,0 +1,212 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CAS 방식의 포인트 서비스 (point.write-mode=cas)
+ * - 유저 잔액을 버전이 붙은 불변 객체로 메모리에 두고, 검증과 잔액 계산은 compare-and-set 재시도로 처리한다. (Lock 없음)
+ * - CAS 에 성공한 변경은 버전 순서대로 내역과 잔액을 저장소에 저장한다.
+ *   저장은 그 시점에 저장할 차례인 변경을 가진 스레드가 대신 처리하고, 각 요청은 자신의 변경이 저장된 뒤에 결과를 돌려받는다.
+ * - 유저별 상태는 요청을 처리 중인 스레드가 있는 동안에만 보관한다. 제거되는 시점에는 모든 변경이 저장되어 있으므로 다음 요청은 저장소에서 다시 읽는다.
+ * - 저장에 실패하면 메모리의 잔액을 버리고 다음 요청이 저장소에서 다시 읽게 한다. 실패한 잔액을 기준으로 계산된 변경도 저장하지 않고 실패시킨다.
+ */
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(prefix = "point", name = "write-mode", havingValue = "cas")
+public class CasPointService implements PointService {
+
+    private final PointValidator pointValidator;
+    private final PointRepository pointRepository;
+
+    private final ReferenceCountedMap<UserState> userStates = new ReferenceCountedMap<>(id -> new UserState());
+
+    @Override
+    public UserPoint get(long id) {
+        return pointRepository.selectById(id);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id) {
+        return pointRepository.selectAllByUserId(id);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id, PointHistoryQuery query) {
+        return pointRepository.selectHistories(id, query);
+    }
+
+    @Override
+    public PointSummary getSummary(long id) {
+        return pointRepository.selectSummary(id);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, TransactionType transactionType) {
+        return update(id, amount, transactionType);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, TransactionType transactionType) {
+        return update(id, amount, transactionType);
+    }
+
+    private UserPoint update(long id, long amount, TransactionType transactionType) {
+        UserState state = userStates.retain(id);
+        try {
+            Mutation mutation = apply(id, state, amount, transactionType);
+            state.pending.put(mutation.version, mutation);
+            persist(id, state);
+            return mutation.await();
+        } finally {
+            userStates.release(id);
+        }
+    }
+
+    // 검증에 성공할 때까지 compare-and-set 을 재시도한다. 검증에 실패하면 BizException 이 그대로 전달된다.
+    private Mutation apply(long id, UserState state, long amount, TransactionType transactionType) {
+        while (true) {
+            VersionedPoint current = state.current(id, pointRepository);
+            UserPoint userPoint = current.userPoint();
+
+            pointValidator.validate(userPoint.point(), amount, transactionType);
+
+            long editPoint = transactionType == TransactionType.CHARGE
+                    ? userPoint.addPoint(amount)
+                    : userPoint.deductPoints(amount);
+            long updateMillis = System.currentTimeMillis();
+            VersionedPoint next = new VersionedPoint(new UserPoint(id, editPoint, updateMillis), current.version() + 1);
+
+            if (state.current.compareAndSet(current, next)) {
+                return new Mutation(next.version(), amount, transactionType, next.userPoint());
+            }
+        }
+    }
+
+    // 저장할 차례인 변경을 버전 순서대로 저장한다. 다른 스레드가 저장 중이면 그 스레드에 맡긴다.
+    private void persist(long id, UserState state) {
+        do {
+            if (!state.persisting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                persistPending(id, state);
+            } finally {
+                state.persisting.set(false);
+            }
+            // 저장을 마치는 사이에 다음 버전이 들어왔을 수 있으므로 다시 확인한다.
+        } while (state.hasPending());
+    }
+
+    private void persistPending(long id, UserState state) {
+        failDiscarded(state);
+
+        List<Mutation> batch = new ArrayList<>();
+        for (Mutation mutation = state.pending.remove(state.persistedVersion + 1);
+             mutation != null;
+             mutation = state.pending.remove(state.persistedVersion + 1)) {
+            batch.add(mutation);
+            state.persistedVersion = mutation.version;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Mutation mutation : batch) {
+                pointRepository.insert(id, mutation.amount, mutation.transactionType, mutation.userPoint.updateMillis());
+            }
+            UserPoint saved = pointRepository.insertOrUpdate(id, batch.get(batch.size() - 1).userPoint.point());
+            for (Mutation mutation : batch) {
+                mutation.result.complete(new UserPoint(id, mutation.userPoint.point(), saved.updateMillis()));
+            }
+        } catch (RuntimeException e) {
+            for (Mutation mutation : batch) {
+                mutation.result.completeExceptionally(e);
+            }
+            // 메모리의 잔액이 저장소보다 앞서 있으므로 버린다. 다음 요청은 저장소에서 다시 읽는다.
+            VersionedPoint discarded = state.current.getAndUpdate(current -> VersionedPoint.unloaded(current.version()));
+            state.persistedVersion = discarded.version();
+            failDiscarded(state);
+        }
+    }
+
+    // 저장에 실패한 잔액을 기준으로 계산된 변경은 저장하지 않고 실패시킨다.
+    private void failDiscarded(UserState state) {
+        Map<Long, Mutation> discarded = state.pending.headMap(state.persistedVersion, true);
+        for (Mutation mutation : discarded.values()) {
+            mutation.result.completeExceptionally(new IllegalStateException("앞선 포인트 변경의 저장에 실패했습니다. 다시 시도해 주세요."));
+        }
+        discarded.clear();
+    }
+
+    // userPoint 가 null 이면 아직 저장소에서 읽지 않은 상태
+    private record VersionedPoint(UserPoint userPoint, long version) {
+
+        private static VersionedPoint unloaded(long version) {
+            return new VersionedPoint(null, version);
+        }
+    }
+
+    private static final class UserState {
+        private final AtomicReference<VersionedPoint> current = new AtomicReference<>(VersionedPoint.unloaded(0L));
+        private final ConcurrentNavigableMap<Long, Mutation> pending = new ConcurrentSkipListMap<>();
+        private final AtomicBoolean persisting = new AtomicBoolean();
+        private volatile long persistedVersion; // persisting 을 잡은 스레드만 변경한다.
+
+        // 처음 사용하거나 저장에 실패한 뒤면 저장소에서 잔액을 다시 읽는다. 버전은 이어서 사용한다.
+        private VersionedPoint current(long id, PointRepository pointRepository) {
+            while (true) {
+                VersionedPoint versionedPoint = current.get();
+                if (versionedPoint.userPoint() != null) {
+                    return versionedPoint;
+                }
+                current.compareAndSet(versionedPoint, new VersionedPoint(pointRepository.selectById(id), versionedPoint.version()));
+            }
+        }
+
+        // 저장할 차례인 변경이나, 실패시켜야 하는 변경이 남아 있는지
+        private boolean hasPending() {
+            Map.Entry<Long, Mutation> first = pending.firstEntry();
+            return first != null && first.getKey() <= persistedVersion + 1;
+        }
+    }
+
+    private static final class Mutation {
+        private final long version;
+        private final long amount;
+        private final TransactionType transactionType;
+        private final UserPoint userPoint;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Mutation(long version, long amount, TransactionType transactionType, UserPoint userPoint) {
+            this.version = version;
+            this.amount = amount;
+            this.transactionType = transactionType;
+            this.userPoint = userPoint;
+        }
+
+        private UserPoint await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
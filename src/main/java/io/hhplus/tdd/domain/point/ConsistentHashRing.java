@@ -0,0 +1,50 @@
+package io.hhplus.tdd.domain.point;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 유저 id 를 노드에 배정하는 consistent hashing 링
+ * - 노드마다 virtualNodes 개의 지점을 링에 올리고, 유저는 자신의 해시 이후 처음 만나는 지점의 노드에 배정된다.
+ * - 노드가 추가/제거되어도 그 노드와 인접한 구간의 유저만 다른 노드로 옮겨진다.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) {
+            throw new IllegalArgumentException("at least one node is required");
+        }
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < Math.max(1, virtualNodes); i++) {
+                ring.put(mix(fnv1a(nodeId + "#" + i)), nodeId);
+            }
+        }
+    }
+
+    public String ownerOf(long userId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(userId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // splitmix64 의 마무리 단계. 연속된 id 도 링 위에 고르게 흩어지도록 한다.
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
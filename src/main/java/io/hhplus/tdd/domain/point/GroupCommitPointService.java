@@ -0,0 +1,161 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 그룹 커밋 방식의 포인트 서비스 (point.write-mode=group-commit)
+ * - 같은 유저에 대해 Lock 을 기다리던 요청들을 하나의 배치로 묶어서 처리한다.
+ * - 배치마다 잔액 조회와 잔액 저장은 한 번씩만 수행하고, 검증과 내역 저장은 요청이 들어온 순서대로 수행한다.
+ * - 각 요청은 자신의 결과(또는 예외)를 그대로 돌려받는다.
+ */
+@RequiredArgsConstructor
+@Service
+@ConditionalOnProperty(prefix = "point", name = "write-mode", havingValue = "group-commit")
+public class GroupCommitPointService implements PointService {
+
+    private final PointValidator pointValidator;
+    private final PointRepository pointRepository;
+
+    // 요청을 넣었거나 처리 중인 스레드가 있는 동안에만 유저별 큐를 보관한다.
+    private final ReferenceCountedMap<UserWriteQueue> userQueues = new ReferenceCountedMap<>(id -> new UserWriteQueue());
+
+    @Override
+    public UserPoint get(long id) {
+        return pointRepository.selectById(id);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id) {
+        return pointRepository.selectAllByUserId(id);
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id, PointHistoryQuery query) {
+        return pointRepository.selectHistories(id, query);
+    }
+
+    @Override
+    public PointSummary getSummary(long id) {
+        return pointRepository.selectSummary(id);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, TransactionType transactionType) {
+        return submit(id, amount, transactionType);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, TransactionType transactionType) {
+        return submit(id, amount, transactionType);
+    }
+
+    private UserPoint submit(long id, long amount, TransactionType transactionType) {
+        PendingWrite write = new PendingWrite(amount, transactionType);
+        UserWriteQueue queue = userQueues.retain(id);
+        try {
+            queue.pending.add(write);
+
+            // Lock 을 잡은 스레드가 그때까지 쌓인 요청을 모두 처리한다.
+            // 다른 스레드가 이미 내 요청까지 처리했다면 바로 결과를 돌려받는다.
+            queue.lock.lock();
+            try {
+                if (!write.result.isDone()) {
+                    flush(id, queue);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        } finally {
+            userQueues.release(id);
+        }
+        return write.await();
+    }
+
+    // 대기 중인 요청을 하나의 배치로 처리한다. (queue.lock 을 잡은 상태에서만 호출)
+    private void flush(long id, UserWriteQueue queue) {
+        List<PendingWrite> batch = new ArrayList<>();
+        for (PendingWrite write = queue.pending.poll(); write != null; write = queue.pending.poll()) {
+            batch.add(write);
+        }
+
+        List<PendingWrite> applied = new ArrayList<>(batch.size());
+        try {
+            UserPoint userPoint = pointRepository.selectById(id);
+
+            for (PendingWrite write : batch) {
+                long point = userPoint.point();
+                try {
+                    pointValidator.validate(point, write.amount, write.transactionType);
+                } catch (BizException e) {
+                    write.result.completeExceptionally(e); // 검증에 실패한 요청만 실패시키고 나머지는 계속 진행
+                    continue;
+                }
+
+                long editPoint = write.transactionType == TransactionType.CHARGE
+                        ? userPoint.addPoint(write.amount)
+                        : userPoint.deductPoints(write.amount);
+                long updateMillis = System.currentTimeMillis();
+
+                pointRepository.insert(id, write.amount, write.transactionType, updateMillis);
+                userPoint = new UserPoint(id, editPoint, updateMillis);
+                write.point = editPoint;
+                applied.add(write);
+            }
+
+            if (applied.isEmpty()) {
+                return;
+            }
+
+            UserPoint saved = pointRepository.insertOrUpdate(id, userPoint.point());
+            for (PendingWrite write : applied) {
+                write.result.complete(new UserPoint(id, write.point, saved.updateMillis()));
+            }
+        } catch (RuntimeException e) {
+            // 저장소 오류는 아직 결과를 받지 못한 모든 요청에 전달한다.
+            for (PendingWrite write : batch) {
+                write.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class UserWriteQueue {
+        private final Lock lock = new ReentrantLock();
+        private final Queue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+    }
+
+    private static final class PendingWrite {
+        private final long amount;
+        private final TransactionType transactionType;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private long point;
+
+        private PendingWrite(long amount, TransactionType transactionType) {
+            this.amount = amount;
+            this.transactionType = transactionType;
+        }
+
+        private UserPoint await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.TooManyRequestsException;
+import io.hhplus.tdd.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청이 몰리는 유저(hot user) 감지기
+ * - 유저 Lock 의 대기열 길이와 대기 시간이 임계치를 넘은 유저를 cooldown 동안 hot user 로 표시한다.
+ * - hot user 의 요청은 전용 스레드 풀에서 처리해서, 요청 스레드가 한 유저의 Lock 앞에 몰려 다른 유저의 요청을 막지 않도록 한다.
+ * - 전용 대기열이 가득 차거나, 한 유저의 처리 중인 요청이 maxInFlightPerUser 에 이르면 TooManyRequestsException(429) 으로 바로 거절한다.
+ *   요청 스레드는 결과를 기다리는 동안 묶여 있으므로, 한 유저가 요청 스레드와 전용 스레드 풀을 모두 차지하지 않도록 유저별로 제한한다.
+ * - 상태는 actuator(/actuator/hotusers) 로 확인할 수 있다.
+ */
+@Component
+public class HotUserDetector {
+
+    private final HotUserProperties properties;
+    private final long lockWaitThresholdNanos;
+    private final long cooldownNanos;
+    private final int maxInFlightPerUser;
+
+    // hot user 이거나 전용 스레드 풀에서 처리 중인 요청이 있는 유저만 보관한다.
+    private final Map<Long, HotUser> hotUsers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public HotUserDetector(HotUserProperties properties, WorkerThreads workerThreads) {
+        this.properties = properties;
+        this.lockWaitThresholdNanos = properties.lockWaitThreshold().toNanos();
+        this.cooldownNanos = properties.cooldown().toNanos();
+        this.maxInFlightPerUser = Math.max(1, properties.maxInFlightPerUser());
+
+        int threads = Math.max(1, properties.threads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                workerThreads.factory("point-hot-user-"));
+    }
+
+    /**
+     * Lock 을 획득한 직후의 대기열 길이와 대기 시간을 기록한다. 임계치를 넘지 않으면 아무것도 하지 않는다.
+     */
+    public void observe(long userId, int queueDepth, long lockWaitNanos) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (queueDepth < properties.queueDepthThreshold() && lockWaitNanos < lockWaitThresholdNanos) {
+            return;
+        }
+        long hotUntilNanos = System.nanoTime() + cooldownNanos;
+        hotUsers.compute(userId, (id, hotUser) -> {
+            HotUser marked = hotUser == null ? new HotUser() : hotUser;
+            marked.hotUntilNanos = hotUntilNanos;
+            return marked;
+        });
+    }
+
+    public boolean isHot(long userId) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        HotUser hotUser = hotUsers.get(userId);
+        if (hotUser == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (hotUser.isHot(now)) {
+            return true;
+        }
+        // cooldown 이 지났고 처리 중인 요청도 없으면 제거한다.
+        hotUsers.computeIfPresent(userId, (id, current) -> current.isHot(now) ? current : null);
+        return false;
+    }
+
+    /**
+     * hot user 의 요청을 전용 스레드 풀에서 처리하고 결과를 기다린다.
+     */
+    public <T> T execute(long userId, Supplier<T> task) {
+        HotUser hotUser = hotUsers.compute(userId, (id, current) -> {
+            HotUser retained = current == null ? new HotUser() : current;
+            if (retained.inFlight >= maxInFlightPerUser) {
+                retained.shedCount.increment();
+                throw tooManyRequests();
+            }
+            retained.inFlight++;
+            return retained;
+        });
+        try {
+            CompletableFuture<T> result;
+            try {
+                result = CompletableFuture.supplyAsync(task, executor);
+            } catch (RejectedExecutionException e) {
+                hotUser.shedCount.increment();
+                throw tooManyRequests();
+            }
+            hotUser.routedCount.increment();
+            return await(result);
+        } finally {
+            hotUsers.computeIfPresent(userId, (id, current) -> {
+                current.inFlight--;
+                return current.isHot(System.nanoTime()) ? current : null;
+            });
+        }
+    }
+
+    public Status status() {
+        long now = System.nanoTime();
+        List<HotUserStatus> users = new ArrayList<>();
+        hotUsers.forEach((userId, hotUser) -> users.add(new HotUserStatus(
+                userId,
+                hotUser.inFlight,
+                Math.max(0L, TimeUnit.NANOSECONDS.toMillis(hotUser.hotUntilNanos - now)),
+                hotUser.routedCount.sum(),
+                hotUser.shedCount.sum())));
+        return new Status(properties.enabled(), executor.getActiveCount(), executor.getQueue().size(), users);
+    }
+
+    private static TooManyRequestsException tooManyRequests() {
+        return new TooManyRequestsException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class HotUser {
+        private volatile long hotUntilNanos;
+        private volatile int inFlight; // hotUsers 의 compute 안에서만 변경한다.
+        private final LongAdder routedCount = new LongAdder();
+        private final LongAdder shedCount = new LongAdder();
+
+        private boolean isHot(long now) {
+            return inFlight > 0 || now - hotUntilNanos < 0;
+        }
+    }
+
+    public record Status(boolean enabled, int activeThreads, int queuedRequests, List<HotUserStatus> users) {
+    }
+
+    public record HotUserStatus(long userId, int inFlight, long remainingCooldownMillis, long routedCount, long shedCount) {
+    }
+}
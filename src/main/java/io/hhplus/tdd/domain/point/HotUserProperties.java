@@ -0,0 +1,27 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청이 몰리는 유저(hot user) 감지 설정
+ * - queueDepthThreshold : 유저 Lock 을 잡고 있거나 기다리는 스레드 수가 이 값 이상이면 hot user 로 본다.
+ * - lockWaitThreshold : 유저 Lock 을 기다린 시간이 이 값 이상이면 hot user 로 본다.
+ * - cooldown : 마지막으로 임계치를 넘은 뒤 hot user 상태를 유지하는 시간
+ * - threads / queueCapacity : hot user 요청만 처리하는 전용 스레드 수와 대기열 크기 (대기열이 차면 429 로 거절)
+ * - maxInFlightPerUser : 한 hot user 가 동시에 전용 스레드 풀에 넣을 수 있는 요청 수 (넘으면 429 로 거절)
+ *   요청 스레드는 결과를 기다리는 동안 묶여 있으므로, queueCapacity 와 함께 서블릿 스레드 수(기본 200)보다 충분히 작게 둔다.
+ */
+@ConfigurationProperties(prefix = "point.hot-user")
+public record HotUserProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("32") int queueDepthThreshold,
+        @DefaultValue("500ms") Duration lockWaitThreshold,
+        @DefaultValue("10s") Duration cooldown,
+        @DefaultValue("4") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("8") int maxInFlightPerUser
+) {
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정
+ * - maximumSize : 결과를 보관할 최대 키 수 (넘으면 오래된 키부터 제거)
+ * - ttl : 결과를 보관하는 시간
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
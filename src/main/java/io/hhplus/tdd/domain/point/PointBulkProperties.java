@@ -0,0 +1,16 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 일괄 처리 설정
+ * - parallelism : 서로 다른 유저의 명령을 동시에 처리할 스레드 수
+ * - maxSize : 한 번에 처리할 수 있는 최대 명령 수
+ */
+@ConfigurationProperties(prefix = "point.bulk")
+public record PointBulkProperties(
+        @DefaultValue("16") int parallelism,
+        @DefaultValue("10000") int maxSize
+) {
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 여러 유저의 포인트 충전/사용 명령을 한 번에 처리하는 서비스
+ * - 명령을 유저별로 묶고, 서로 다른 유저의 묶음은 병렬로 처리한다.
+ * - 같은 유저의 명령은 요청에 들어온 순서대로 하나씩 PointService 를 통해 처리하므로 유저별 Lock 과 검증이 그대로 적용된다.
+ * - 샤딩을 사용하면 명령마다 유저를 담당하는 노드의 서비스로 보낸다.
+ * - 결과는 요청 순서대로, 명령마다 처리 후 잔액 또는 예외를 돌려준다.
+ */
+@Service
+public class PointBulkService {
+
+    private final PointPartitionRouter pointPartitionRouter;
+    private final PointBulkProperties properties;
+    private final ExecutorService executorService;
+
+    public PointBulkService(PointPartitionRouter pointPartitionRouter, PointBulkProperties properties, WorkerThreads workerThreads) {
+        this.pointPartitionRouter = pointPartitionRouter;
+        this.properties = properties;
+        this.executorService = Executors.newFixedThreadPool(
+                Math.max(1, properties.parallelism()), workerThreads.factory("point-bulk-"));
+    }
+
+    public List<PointCommandResult> execute(List<PointCommand> commands) {
+        if (commands.size() > properties.maxSize()) {
+            throw new BizException("한 번에 처리할 수 있는 명령 수를 초과했습니다.");
+        }
+
+        // 유저별로 명령의 위치(index)를 요청 순서대로 묶는다.
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByUser.computeIfAbsent(commands.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        PointCommandResult[] results = new PointCommandResult[commands.size()];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (List<Integer> indexes : indexesByUser.values()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    results[index] = executeOne(commands.get(index));
+                }
+            }, executorService));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return Arrays.asList(results);
+    }
+
+    private PointCommandResult executeOne(PointCommand command) {
+        try {
+            if (command.type() == null) {
+                // 종류가 없으면 검증 없이 사용으로 처리되므로 항목 단위로 거절한다.
+                throw new BizException("충전/사용 종류가 없습니다.");
+            }
+            PointService pointService = pointPartitionRouter.serviceFor(command.userId());
+            UserPoint userPoint = command.type() == TransactionType.CHARGE
+                    ? pointService.charge(command.userId(), command.amount(), command.type())
+                    : pointService.use(command.userId(), command.amount(), command.type());
+            return PointCommandResult.success(command, userPoint);
+        } catch (RuntimeException e) {
+            return PointCommandResult.failure(command, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
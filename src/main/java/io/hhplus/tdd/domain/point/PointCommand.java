@@ -0,0 +1,13 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+/**
+ * 유저 한 명에 대한 포인트 충전/사용 명령
+ */
+public record PointCommand(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.domain.point;
+
+/**
+ * 포인트 명령 처리 결과
+ * - 성공하면 userPoint 에 처리 후 잔액이, 실패하면 error 에 예외가 담긴다.
+ */
+public record PointCommandResult(
+        PointCommand command,
+        UserPoint userPoint,
+        RuntimeException error
+) {
+    public static PointCommandResult success(PointCommand command, UserPoint userPoint) {
+        return new PointCommandResult(command, userPoint, null);
+    }
+
+    public static PointCommandResult failure(PointCommand command, RuntimeException error) {
+        return new PointCommandResult(command, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
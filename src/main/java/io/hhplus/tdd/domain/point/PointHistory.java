@@ -1,12 +1,39 @@
 package io.hhplus.tdd.domain.point;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.hhplus.tdd.interfaces.api.point.TransactionType;
 
+/**
+ * 포인트 내역
+ * - bucket : 오래된 내역을 압축한 집계 내역이면 집계 정보, 원본 내역이면 null 이다.
+ *   집계 내역의 id 는 집계에 포함된 마지막 내역 id, amount 는 합계, updateMillis 는 기간 시작 시각이다.
+ */
 public record PointHistory(
         long id,
         long userId,
         long amount,
         TransactionType type,
-        long updateMillis
+        long updateMillis,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Bucket bucket
 ) {
+    public PointHistory(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        this(id, userId, amount, type, updateMillis, null);
+    }
+
+    /**
+     * 집계 정보
+     * - granularity : 집계 기간 단위 (일/월)
+     * - firstId : 같은 기간 집계에 포함된 첫 내역 id (충전/사용 공통)
+     * - count : 집계에 포함된 같은 종류의 원본 내역 수
+     */
+    public record Bucket(
+            Granularity granularity,
+            long firstId,
+            long count
+    ) {
+    }
+
+    public enum Granularity {
+        DAY, MONTH
+    }
 }
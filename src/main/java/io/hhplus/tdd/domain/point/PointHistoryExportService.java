@@ -0,0 +1,41 @@
+package io.hhplus.tdd.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 내역 내보내기
+ * - 내역을 하나의 리스트로 모으지 않고 한 건씩 consumer 에 넘기므로, 내역 수와 관계없이 일정한 메모리로 내보낼 수 있다.
+ * - 유저 단위 내보내기는 유저를 담당하는 노드의 서비스에서 커서로 페이지를 나눠서 읽는다.
+ * - 전체 내보내기는 현재 노드의 저장소에 있는 내역만 대상으로 한다. (샤딩을 사용하면 노드마다 내보낸다)
+ * - 내역 압축(point.history-compaction)을 사용하면, 유저 단위/전체 내보내기 모두 압축된 기간을 조회 API 와 같이
+ *   집계 내역(PointHistory.bucket 에 단위와 건수 포함)으로 내보낸다.
+ * - consumer 에서 예외가 발생하면(예: 클라이언트 연결 끊김) 바로 중단한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class PointHistoryExportService {
+
+    private final PointPartitionRouter pointPartitionRouter;
+    private final PointRepository pointRepository;
+
+    public void exportAll(Consumer<PointHistory> consumer) {
+        pointRepository.forEachHistory(consumer);
+    }
+
+    public void export(long userId, Consumer<PointHistory> consumer) {
+        PointService pointService = pointPartitionRouter.serviceFor(userId);
+        PointHistoryQuery query = PointHistoryQuery.first(PointHistoryQuery.MAX_SIZE);
+        while (true) {
+            List<PointHistory> page = pointService.getHistory(userId, query);
+            page.forEach(consumer);
+            if (page.size() < query.size()) {
+                return;
+            }
+            query = new PointHistoryQuery(page.get(page.size() - 1).id(), query.size(), null, null, null);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+/**
+ * 포인트 내역 조회 조건
+ * - cursor : 이전 페이지의 마지막 내역 id (이 id 보다 큰 내역부터 조회, null 이면 처음부터)
+ * - size : 한 번에 조회할 내역 수
+ * - fromMillis, toMillis : updateMillis 조회 범위 [fromMillis, toMillis) (null 이면 제한 없음)
+ * - type : 조회할 트랜잭션 종류 (null 이면 전체)
+ */
+public record PointHistoryQuery(
+        Long cursor,
+        int size,
+        Long fromMillis,
+        Long toMillis,
+        TransactionType type
+) {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    public PointHistoryQuery {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new BizException("조회할 내역 수는 1 ~ 1,000 사이여야 합니다.");
+        }
+        if (fromMillis != null && toMillis != null && fromMillis > toMillis) {
+            throw new BizException("조회 시작 시간이 종료 시간보다 늦을 수 없습니다.");
+        }
+    }
+
+    public static PointHistoryQuery first(int size) {
+        return new PointHistoryQuery(null, size, null, null, null);
+    }
+
+    public long afterId() {
+        return cursor == null ? 0L : cursor;
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        if (fromMillis != null && pointHistory.updateMillis() < fromMillis) {
+            return false;
+        }
+        if (toMillis != null && pointHistory.updateMillis() >= toMillis) {
+            return false;
+        }
+        return type == null || pointHistory.type() == type;
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.ConflictException;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별 충전/사용 결과 저장소
+ * - 같은 유저가 같은 키로 다시 요청하면 저장소를 거치지 않고 처음 요청의 결과를 돌려준다.
+ * - 처음 요청이 아직 처리 중이면 새로 처리하지 않고 그 결과를 함께 기다린다.
+ * - 처음 요청이 실패하면 결과를 남기지 않으므로, 같은 키로 다시 시도할 수 있다.
+ * - 키는 ttl 이 지나거나 최대 개수를 넘으면 오래된 것부터 제거한다. (ttl 이 모두 같으므로 넣은 순서 = 만료 순서)
+ *   아직 처리 중인 키는 제거하지 않는다. 제거하면 같은 키의 재시도가 한 번 더 처리되기 때문이다.
+ * - 같은 키로 다른 요청(금액/종류)을 보내면 ConflictException(409) 으로 거절한다.
+ */
+@Component
+public class PointIdempotencyCache {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+
+    private final Lock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>();
+
+    public PointIdempotencyCache(IdempotencyProperties properties) {
+        this.maximumSize = Math.max(1, properties.maximumSize());
+        this.ttlNanos = properties.ttl().toNanos();
+    }
+
+    /**
+     * 멱등 키가 없으면 바로 처리하고, 있으면 같은 키의 결과를 재사용한다.
+     */
+    public UserPoint execute(String idempotencyKey, long userId, long amount, TransactionType transactionType,
+                             Supplier<UserPoint> operation) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return operation.get();
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        Entry entry = new Entry(amount, transactionType, System.nanoTime() + ttlNanos);
+        Entry existing = putIfAbsent(key, entry);
+        if (existing != null) {
+            if (existing.amount != amount || existing.transactionType != transactionType) {
+                throw new ConflictException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+            }
+            return await(existing.result);
+        }
+
+        try {
+            UserPoint userPoint = operation.get();
+            entry.result.complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            remove(key, entry);
+            entry.result.completeExceptionally(e); // 기다리던 중복 요청도 같은 예외를 받는다.
+            throw e;
+        }
+    }
+
+    // 보관 중인 키 수
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry putIfAbsent(Key key, Entry entry) {
+        lock.lock();
+        try {
+            evictExpired(System.nanoTime());
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, entry);
+            if (entries.size() > maximumSize) {
+                evictEldestDone();
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (now - entry.expireAtNanos < 0) {
+                return;
+            }
+            if (entry.result.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // 처리가 끝난 키 중 가장 오래된 것을 제거한다. 모두 처리 중이면 잠시 최대 개수를 넘겨서 보관한다.
+    private void evictEldestDone() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result.isDone()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private static final class Entry {
+        private final long amount;
+        private final TransactionType transactionType;
+        private final long expireAtNanos;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(long amount, TransactionType transactionType, long expireAtNanos) {
+            this.amount = amount;
+            this.transactionType = transactionType;
+            this.expireAtNanos = expireAtNanos;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 기능의 지연 시간/횟수 지표
+ * - 태그 조합마다 Timer/Counter 를 미리 등록해 두고 enum 의 ordinal 로 꺼내 쓰므로, 기록할 때 태그 조회나 객체 생성이 없다.
+ * - 시간은 호출하는 쪽에서 System.nanoTime() 으로 잰 값을 나노초 단위로 넘긴다.
+ */
+@Component
+public class PointMetrics {
+
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer[] storage;
+    private final Counter[][] rejections;
+    private final Timer[][] requests;
+
+    public PointMetrics(MeterRegistry registry) {
+        this.lockWait = Timer.builder("point.lock.wait")
+                .description("유저 Lock 을 획득할 때까지 기다린 시간")
+                .register(registry);
+        this.lockHold = Timer.builder("point.lock.hold")
+                .description("유저 Lock 을 잡고 있던 시간")
+                .register(registry);
+
+        StorageMethod[] methods = StorageMethod.values();
+        this.storage = new Timer[methods.length];
+        for (StorageMethod method : methods) {
+            storage[method.ordinal()] = Timer.builder("point.storage")
+                    .description("저장소 호출 시간")
+                    .tags("method", method.tagValue)
+                    .register(registry);
+        }
+
+        RejectReason[] reasons = RejectReason.values();
+        TransactionType[] types = TransactionType.values();
+        this.rejections = new Counter[reasons.length][types.length];
+        for (RejectReason reason : reasons) {
+            for (TransactionType type : types) {
+                rejections[reason.ordinal()][type.ordinal()] = Counter.builder("point.rejections")
+                        .description("검증에 실패한 요청 수")
+                        .tags("reason", reason.tagValue, "type", type.name())
+                        .register(registry);
+            }
+        }
+
+        Operation[] operations = Operation.values();
+        Outcome[] outcomes = Outcome.values();
+        this.requests = new Timer[operations.length][outcomes.length];
+        for (Operation operation : operations) {
+            for (Outcome outcome : outcomes) {
+                requests[operation.ordinal()][outcome.ordinal()] = Timer.builder("point.requests")
+                        .description("포인트 API 처리 시간")
+                        .tags("operation", operation.tagValue, "outcome", outcome.tagValue)
+                        .register(registry);
+            }
+        }
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStorage(StorageMethod method, long nanos) {
+        storage[method.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejection(RejectReason reason, TransactionType type) {
+        rejections[reason.ordinal()][type.ordinal()].increment();
+    }
+
+    public void recordRequest(Operation operation, Outcome outcome, long nanos) {
+        requests[operation.ordinal()][outcome.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public enum StorageMethod {
+        SELECT_BY_ID("selectById"),
+        INSERT_OR_UPDATE("insertOrUpdate"),
+        INSERT_HISTORY("insert"),
+        SELECT_HISTORIES("selectHistories");
+
+        private final String tagValue;
+
+        StorageMethod(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    public enum RejectReason {
+        INVALID_AMOUNT("invalid_amount"),
+        MAX_POINTS_EXCEEDED("max_points_exceeded"),
+        NO_POINTS("no_points"),
+        INSUFFICIENT_BALANCE("insufficient_balance");
+
+        private final String tagValue;
+
+        RejectReason(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    public enum Operation {
+        GET("get"),
+        HISTORY("history"),
+        SUMMARY("summary"),
+        CHARGE("charge"),
+        USE("use");
+
+        private final String tagValue;
+
+        Operation(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS("success"),
+        REJECTED("rejected"),
+        ERROR("error");
+
+        private final String tagValue;
+
+        Outcome(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.domain.point;
+
+/**
+ * 다른 노드의 포인트 서비스
+ * - 충전/사용은 멱등 키를 함께 전달해서, 중복 여부를 유저를 담당하는 노드에서 확인하게 한다.
+ */
+public interface PointNode extends PointService {
+
+    UserPoint charge(long id, long amount, String idempotencyKey);
+
+    UserPoint use(long id, long amount, String idempotencyKey);
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.domain.point;
+
+/**
+ * 다른 노드의 포인트 서비스에 연결한다.
+ */
+public interface PointNodeConnector {
+
+    PointNode connect(ShardingProperties.Node node);
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 id 를 담당하는 노드의 포인트 서비스를 고른다.
+ * - 샤딩을 사용하지 않으면 항상 현재 노드의 서비스를 돌려준다.
+ * - 샤딩을 사용하면 consistent hashing 링으로 담당 노드를 찾고, 다른 노드면 그 노드로 요청을 전달하는 서비스를 돌려준다.
+ *   같은 유저의 요청은 항상 한 노드에서만 처리되므로 유저별 순서(Lock, mailbox 등)가 노드 사이에서도 유지된다.
+ * - 다른 노드에서 전달받은 요청은 다시 전달하지 않는다. (노드 목록이 어긋난 경우 무한 전달 방지)
+ * - 현재 노드 id 가 노드 목록에 없으면 어떤 유저도 담당하지 않게 되므로 시작할 때 실패한다.
+ */
+@Component
+public class PointPartitionRouter {
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+
+    private final PointService localPointService;
+    private final String nodeId;
+    private final ConsistentHashRing ring;
+    private final Map<String, PointNode> remoteNodes = new HashMap<>();
+
+    public PointPartitionRouter(PointService localPointService, ShardingProperties properties, PointNodeConnector pointNodeConnector) {
+        this.localPointService = localPointService;
+        this.nodeId = properties.nodeId();
+        if (!properties.enabled()) {
+            this.ring = null;
+            return;
+        }
+        List<String> nodeIds = properties.nodes().stream().map(ShardingProperties.Node::id).toList();
+        if (!nodeIds.contains(nodeId)) {
+            throw new IllegalStateException("point.sharding.node-id " + nodeId + " is not in point.sharding.nodes " + nodeIds);
+        }
+        this.ring = new ConsistentHashRing(nodeIds, properties.virtualNodes());
+        for (ShardingProperties.Node node : properties.nodes()) {
+            if (!node.id().equals(nodeId)) {
+                remoteNodes.put(node.id(), pointNodeConnector.connect(node));
+            }
+        }
+    }
+
+    public PointService serviceFor(long userId) {
+        PointNode remoteNode = remoteFor(userId);
+        return remoteNode != null ? remoteNode : localPointService;
+    }
+
+    // 다른 노드가 담당하는 유저면 그 노드를, 현재 노드가 담당하면 null 을 돌려준다.
+    public PointNode remoteFor(long userId) {
+        if (ring == null) {
+            return null;
+        }
+        String owner = ring.ownerOf(userId);
+        if (owner.equals(nodeId)) {
+            return null;
+        }
+        String forwardedBy = forwardedBy();
+        if (forwardedBy != null) {
+            throw new IllegalStateException("user " + userId + " forwarded by " + forwardedBy + " is owned by " + owner);
+        }
+        return remoteNodes.get(owner);
+    }
+
+    // 현재 노드가 담당하는 유저인지 여부
+    public boolean isLocal(long userId) {
+        return ring == null || ring.ownerOf(userId).equals(nodeId);
+    }
+
+    private static String forwardedBy() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getHeader(FORWARDED_HEADER);
+        }
+        return null;
+    }
+}
@@ -3,6 +3,7 @@ package io.hhplus.tdd.domain.point;
 import io.hhplus.tdd.interfaces.api.point.TransactionType;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PointRepository {
 
@@ -10,6 +11,13 @@ public interface PointRepository {
 
     List<PointHistory> selectAllByUserId(long id);
 
+    List<PointHistory> selectHistories(long id, PointHistoryQuery query);
+
+    PointSummary selectSummary(long id);
+
+    // 저장된 모든 유저의 내역을 리스트로 모으지 않고 한 건씩 읽는다.
+    void forEachHistory(Consumer<PointHistory> consumer);
+
     UserPoint insertOrUpdate(long id, long amount);
 
     void insert(long userId, long amount, TransactionType type, long updateMillis);
@@ -10,6 +10,10 @@ public interface PointService {
 
     List<PointHistory> getHistory(long id);
 
+    List<PointHistory> getHistory(long id, PointHistoryQuery query);
+
+    PointSummary getSummary(long id);
+
     UserPoint charge(long id, long amount, TransactionType transactionType);
 
     UserPoint use(long id, long amount, TransactionType transactionType);
@@ -2,28 +2,23 @@ package io.hhplus.tdd.domain.point;
 
 import io.hhplus.tdd.interfaces.api.point.TransactionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @RequiredArgsConstructor
 @Service
+@ConditionalOnProperty(prefix = "point", name = "write-mode", havingValue = "lock", matchIfMissing = true)
 public class PointServiceImpl implements PointService {
 
     private final PointValidator pointValidator;
     private final PointRepository pointRepository;
+    private final PointMetrics pointMetrics;
+    private final HotUserDetector hotUserDetector;
 
-    private final Map<Long, Lock> userLocks = new ConcurrentHashMap<>();
-
-    // 유저별 Lock을 가져오는 메서드
-    private Lock getUserLock(long userId) {
-        //유저별로 Lock을 관리하고, 없으면 새로운 Lock을 생성
-        return userLocks.computeIfAbsent(userId, id -> new ReentrantLock(true));
-    }
+    // 유저별로 Lock을 관리하고, 사용하는 스레드가 없는 Lock은 제거
+    private final UserLockRegistry userLocks = new UserLockRegistry();
 
     @Override
     public UserPoint get(long id) {
@@ -35,10 +30,32 @@ public class PointServiceImpl implements PointService {
         return pointRepository.selectAllByUserId(id);
     }
 
+    @Override
+    public List<PointHistory> getHistory(long id, PointHistoryQuery query) {
+        return pointRepository.selectHistories(id, query);
+    }
+
+    @Override
+    public PointSummary getSummary(long id) {
+        return pointRepository.selectSummary(id);
+    }
+
     @Override
     public UserPoint charge(long id, long amount, TransactionType transactionType) {
-        Lock lock = getUserLock(id);
-        lock.lock(); // 유저 ID에 해당하는 Lock을 가져온다.
+        if (hotUserDetector.isHot(id)) {
+            // 요청이 몰리는 유저는 전용 스레드 풀에서 처리한다.
+            return hotUserDetector.execute(id, () -> chargeLocked(id, amount, transactionType));
+        }
+        return chargeLocked(id, amount, transactionType);
+    }
+
+    private UserPoint chargeLocked(long id, long amount, TransactionType transactionType) {
+        int queueDepth = userLocks.queueLength(id);
+        long waitStart = System.nanoTime();
+        userLocks.lock(id); // 유저 ID에 해당하는 Lock을 획득한다.
+        long acquired = System.nanoTime();
+        pointMetrics.recordLockWait(acquired - waitStart);
+        hotUserDetector.observe(id, queueDepth + 1, acquired - waitStart);
         try {
             UserPoint userPoint = pointRepository.selectById(id);
 
@@ -50,14 +67,27 @@ public class PointServiceImpl implements PointService {
             pointRepository.insert(id, amount, transactionType, System.currentTimeMillis());
             return pointRepository.insertOrUpdate(id, editPoint);
         } finally {
-            lock.unlock(); // 충전이 끝나면 Lock 해제
+            userLocks.unlock(id); // 충전이 끝나면 Lock 해제
+            pointMetrics.recordLockHold(System.nanoTime() - acquired);
         }
     }
 
     @Override
     public UserPoint use(long id, long amount, TransactionType transactionType) {
-        Lock lock = getUserLock(id);
-        lock.lock(); // 충전 처리 전 Lock 획득
+        if (hotUserDetector.isHot(id)) {
+            // 요청이 몰리는 유저는 전용 스레드 풀에서 처리한다.
+            return hotUserDetector.execute(id, () -> useLocked(id, amount, transactionType));
+        }
+        return useLocked(id, amount, transactionType);
+    }
+
+    private UserPoint useLocked(long id, long amount, TransactionType transactionType) {
+        int queueDepth = userLocks.queueLength(id);
+        long waitStart = System.nanoTime();
+        userLocks.lock(id); // 충전 처리 전 Lock 획득
+        long acquired = System.nanoTime();
+        pointMetrics.recordLockWait(acquired - waitStart);
+        hotUserDetector.observe(id, queueDepth + 1, acquired - waitStart);
         try {
             UserPoint userPoint = pointRepository.selectById(id);
 
@@ -69,7 +99,8 @@ public class PointServiceImpl implements PointService {
             pointRepository.insert(id, amount, transactionType, System.currentTimeMillis());
             return pointRepository.insertOrUpdate(id, editPoint);
         } finally {
-            lock.unlock(); // 충전이 끝나면 Lock 해제
+            userLocks.unlock(id); // 충전이 끝나면 Lock 해제
+            pointMetrics.recordLockHold(System.nanoTime() - acquired);
         }
     }
 }
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.domain.point;
+
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+/**
+ * 유저별 포인트 내역 집계
+ * - 내역이 없으면 모든 값이 0 이다.
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        long firstUpdateMillis,
+        long lastUpdateMillis
+) {
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * 내역 한 건을 더한 집계를 반환한다.
+     */
+    public PointSummary plus(long amount, TransactionType type, long updateMillis) {
+        return plus(amount, type, updateMillis, 1L);
+    }
+
+    /**
+     * 내역 count 건(압축된 집계 내역이면 집계에 포함된 건수)의 합계 amount 를 더한 집계를 반환한다.
+     */
+    public PointSummary plus(long amount, TransactionType type, long updateMillis, long count) {
+        boolean charge = type == TransactionType.CHARGE;
+        boolean first = chargeCount + useCount == 0L;
+        return new PointSummary(
+                userId,
+                charge ? totalCharged + amount : totalCharged,
+                charge ? totalUsed : totalUsed + amount,
+                charge ? chargeCount + count : chargeCount,
+                charge ? useCount : useCount + count,
+                first ? updateMillis : Math.min(firstUpdateMillis, updateMillis),
+                first ? updateMillis : Math.max(lastUpdateMillis, updateMillis));
+    }
+}
@@ -1,36 +1,46 @@
 package io.hhplus.tdd.domain.point;
 
 import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.domain.point.PointMetrics.RejectReason;
 import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import static io.hhplus.tdd.domain.point.UserPoint.MAX_POINTS;
 
+@RequiredArgsConstructor
 @Component
 public class PointValidator {
 
     private static final Logger log = LoggerFactory.getLogger(PointValidator.class);
 
+    private final PointMetrics pointMetrics;
+
     public void validate(long point, long amount, TransactionType transactionType) {
         if (transactionType == TransactionType.CHARGE) {
             if (amount <= 0L) {
-                throw new BizException("충전할 금액이 없습니다.");
+                throw reject(RejectReason.INVALID_AMOUNT, transactionType, "충전할 금액이 없습니다.");
             }
             if (point + amount > MAX_POINTS) {
-                throw new BizException("최대 10,000 포인트를 초과할 수 없습니다.");
+                throw reject(RejectReason.MAX_POINTS_EXCEEDED, transactionType, "최대 10,000 포인트를 초과할 수 없습니다.");
             }
         } else if (transactionType == TransactionType.USE) {
             if (point <= 0L) {
-                throw new BizException("사용 가능한 포인트가 없습니다.");
+                throw reject(RejectReason.NO_POINTS, transactionType, "사용 가능한 포인트가 없습니다.");
             }
             if (point - amount < 0L) {
-                throw new BizException("포인트 잔고가 부족합니다.");
+                throw reject(RejectReason.INSUFFICIENT_BALANCE, transactionType, "포인트 잔고가 부족합니다.");
             }
             if (amount <= 0L) {
-                throw new BizException("사용할 포인트가 없습니다.");
+                throw reject(RejectReason.INVALID_AMOUNT, transactionType, "사용할 포인트가 없습니다.");
             }
         }
     }
+
+    private BizException reject(RejectReason reason, TransactionType transactionType, String message) {
+        pointMetrics.recordRejection(reason, transactionType);
+        return new BizException(message);
+    }
 }
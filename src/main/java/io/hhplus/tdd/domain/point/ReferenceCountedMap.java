@@ -0,0 +1,57 @@
+package io.hhplus.tdd.domain.point;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * 참조 카운트로 관리되는 유저별 객체 저장소
+ * - retain 으로 가져간 객체는 release 될 때까지 같은 객체가 유지된다.
+ * - 참조 카운트가 0 이 되면 바로 제거되므로, 사용 중인 유저 수만큼만 메모리를 사용한다.
+ * - 참조 카운트는 ConcurrentHashMap 의 compute 안에서만 바꾸므로 같은 유저에 대한 retain/release 가 서로 꼬이지 않는다.
+ */
+final class ReferenceCountedMap<T> {
+
+    private final Map<Long, Slot<T>> slots = new ConcurrentHashMap<>();
+    private final LongFunction<T> factory;
+
+    ReferenceCountedMap(LongFunction<T> factory) {
+        this.factory = factory;
+    }
+
+    T retain(long key) {
+        return slots.compute(key, (id, slot) -> {
+            Slot<T> retained = slot == null ? new Slot<>(factory.apply(id)) : slot;
+            retained.references++;
+            return retained;
+        }).value;
+    }
+
+    // retain 한 뒤 release 하기 전까지만 호출할 수 있다.
+    T get(long key) {
+        return slots.get(key).value;
+    }
+
+    void release(long key) {
+        slots.computeIfPresent(key, (id, slot) -> --slot.references == 0 ? null : slot);
+    }
+
+    // 해당 유저의 객체를 사용 중인 스레드 수
+    int references(long key) {
+        Slot<T> slot = slots.get(key);
+        return slot == null ? 0 : slot.references;
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private static final class Slot<T> {
+        private final T value;
+        private int references;
+
+        private Slot(T value) {
+            this.value = value;
+        }
+    }
+}
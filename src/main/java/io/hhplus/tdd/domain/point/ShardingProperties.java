@@ -0,0 +1,32 @@
+package io.hhplus.tdd.domain.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 유저 파티션(샤딩) 설정
+ * - enabled : 여러 노드에 유저를 나눠서 처리할지 여부
+ * - nodeId : 현재 노드의 id (nodes 중 하나)
+ * - virtualNodes : 노드마다 해시 링에 올리는 가상 노드 수 (많을수록 유저가 고르게 나뉜다)
+ * - nodes : 전체 노드 목록 (모든 노드가 같은 목록을 가져야 한다)
+ * - connectTimeout, readTimeout : 다른 노드로 요청을 전달할 때의 연결/응답 대기 시간
+ */
+@ConfigurationProperties(prefix = "point.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("node-1") String nodeId,
+        @DefaultValue("128") int virtualNodes,
+        List<Node> nodes,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration readTimeout
+) {
+    public ShardingProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+    }
+
+    public record Node(String id, String url) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.domain.point;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 Lock 저장소
+ * - Lock 을 잡고 있거나 기다리는 스레드가 있는 동안에만 유저의 Lock 을 보관하고, 아무도 사용하지 않으면 제거한다.
+ * - 같은 유저에 대해 Lock 을 사용 중인 스레드는 항상 같은 Lock 객체를 보므로 유저별 상호 배제는 그대로 유지된다.
+ */
+public class UserLockRegistry {
+
+    private final ReferenceCountedMap<ReentrantLock> locks = new ReferenceCountedMap<>(id -> new ReentrantLock(true));
+
+    public void lock(long userId) {
+        locks.retain(userId).lock();
+    }
+
+    public void unlock(long userId) {
+        try {
+            locks.get(userId).unlock();
+        } finally {
+            locks.release(userId);
+        }
+    }
+
+    // 해당 유저의 Lock 을 잡고 있거나 기다리는 스레드 수
+    public int queueLength(long userId) {
+        return locks.references(userId);
+    }
+
+    // 현재 보관 중인 Lock 수
+    public int size() {
+        return locks.size();
+    }
+}
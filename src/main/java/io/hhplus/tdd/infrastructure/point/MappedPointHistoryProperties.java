@@ -0,0 +1,19 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 메모리 맵 파일 기반 내역 저장소 설정 (point.storage.history=mapped 일 때 사용)
+ * - directory : 세그먼트 파일을 저장할 디렉터리
+ * - segmentSize : 세그먼트 파일 하나의 크기 (가득 차면 다음 세그먼트 파일을 만든다)
+ * - forceOnWrite : 내역을 쓸 때마다 디스크에 바로 반영(force)할지 여부
+ */
+@ConfigurationProperties(prefix = "point.storage.mapped-history")
+public record MappedPointHistoryProperties(
+        @DefaultValue("data/point-history") String directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("false") boolean forceOnWrite
+) {
+}
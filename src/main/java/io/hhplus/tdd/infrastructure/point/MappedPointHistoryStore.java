@@ -0,0 +1,341 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 파일에 내역을 append-only 로 쌓는 내역 저장소 (point.storage.history=mapped)
+ * - 내역은 고정 길이(40 바이트) 레코드로 세그먼트 파일에 순서대로 기록하고, 세그먼트가 가득 차면 다음 파일을 만든다.
+ *   [id(8) | userId(8) | amount(8) | updateMillis(8) | type(4) | crc(4)]
+ * - id 는 1 부터 1 씩 증가하며, id - 1 이 전체 로그에서의 레코드 위치가 된다.
+ * - 유저별로는 내역 id 만 힙에 보관하고, 내역 자체는 조회할 때 파일에서 읽는다.
+ * - 시작 시 세그먼트를 처음부터 읽어 유저별 인덱스를 다시 만들고, crc 가 맞지 않거나 비어 있는 레코드를 만나면
+ *   그 위치를 로그의 끝으로 보고 이후 내용을 지운다. (기록 도중 종료되어 일부만 쓰인 레코드 복구)
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.storage", name = "history", havingValue = "mapped")
+public class MappedPointHistoryStore implements PointHistoryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPointHistoryStore.class);
+
+    static final int RECORD_SIZE = 40;
+    private static final int CRC_OFFSET = 36;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final boolean forceOnWrite;
+
+    private final Lock appendLock = new ReentrantLock();
+    private final CRC32C appendCrc = new CRC32C();
+    private final Map<Long, UserOffsets> userOffsets = new ConcurrentHashMap<>();
+    private volatile Segment[] segments = new Segment[0];
+    private long nextId = 1; // appendLock 을 잡은 상태에서만 변경
+
+    public MappedPointHistoryStore(MappedPointHistoryProperties properties) {
+        this.directory = Path.of(properties.directory());
+        this.recordsPerSegment = (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE,
+                Math.max(1L, properties.segmentSize().toBytes() / RECORD_SIZE));
+        this.forceOnWrite = properties.forceOnWrite();
+        recover();
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            long id = nextId;
+            Segment segment = segmentFor(id);
+            if (segment == null) {
+                segment = createSegment(id - 1);
+            }
+            int offset = segment.offsetOf(id);
+            MappedByteBuffer buffer = segment.buffer();
+            buffer.putLong(offset, id);
+            buffer.putLong(offset + 8, userId);
+            buffer.putLong(offset + 16, amount);
+            buffer.putLong(offset + 24, updateMillis);
+            buffer.putInt(offset + 32, type.ordinal());
+            buffer.putInt(offset + CRC_OFFSET, crcOf(appendCrc, buffer, offset));
+            if (forceOnWrite) {
+                buffer.force(offset, RECORD_SIZE);
+            }
+            nextId++;
+
+            userOffsets.computeIfAbsent(userId, key -> new UserOffsets()).append(id);
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserOffsets offsets = userOffsets.get(userId);
+        if (offsets == null) {
+            return List.of();
+        }
+        long[] ids = offsets.snapshot();
+        List<PointHistory> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(read(id));
+        }
+        return result;
+    }
+
+    @Override
+    public List<PointHistory> selectHistories(long userId, PointHistoryQuery query) {
+        UserOffsets offsets = userOffsets.get(userId);
+        if (offsets == null) {
+            return List.of();
+        }
+        long[] ids = offsets.snapshot();
+        List<PointHistory> result = new ArrayList<>(Math.min(query.size(), ids.length));
+        int from = Arrays.binarySearch(ids, query.afterId());
+        from = from >= 0 ? from + 1 : -from - 1;
+        for (int i = from; i < ids.length && result.size() < query.size(); i++) {
+            PointHistory pointHistory = read(ids[i]);
+            if (query.matches(pointHistory)) {
+                result.add(pointHistory);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void forEach(Consumer<PointHistory> consumer) {
+        forEachAfter(0L, consumer);
+    }
+
+    // id 가 afterId 보다 큰 내역을 id 순서대로 읽는다.
+    public void forEachAfter(long afterId, Consumer<PointHistory> consumer) {
+        long lastId = lastId();
+        for (long id = afterId + 1; id <= lastId; id++) {
+            consumer.accept(read(id));
+        }
+    }
+
+    // 마지막으로 기록된 내역 id
+    public long lastId() {
+        appendLock.lock();
+        try {
+            return nextId - 1;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Segment segment : segments) {
+            segment.buffer().force();
+        }
+    }
+
+    private PointHistory read(long id) {
+        Segment segment = segmentFor(id);
+        return readRecord(segment.buffer(), segment.offsetOf(id));
+    }
+
+    private static PointHistory readRecord(MappedByteBuffer buffer, int offset) {
+        return new PointHistory(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                TYPES[buffer.getInt(offset + 32)],
+                buffer.getLong(offset + 24));
+    }
+
+    private Segment segmentFor(long id) {
+        long recordNo = id - 1;
+        Segment[] current = segments;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].contains(recordNo)) {
+                return current[i];
+            }
+            if (current[i].firstRecordNo() < recordNo) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    private Segment createSegment(long firstRecordNo) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstRecordNo, SEGMENT_SUFFIX));
+        Segment segment = new Segment(firstRecordNo, recordsPerSegment, map(path, (long) recordsPerSegment * RECORD_SIZE));
+        Segment[] current = segments;
+        Segment[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = segment;
+        segments = next;
+        return segment;
+    }
+
+    // 세그먼트를 순서대로 읽어서 유저별 인덱스를 만들고, 로그의 끝(마지막으로 온전히 기록된 레코드 다음)을 찾는다.
+    private void recover() {
+        List<Path> paths = segmentPaths();
+        CRC32C crc = new CRC32C();
+        List<Segment> recovered = new ArrayList<>();
+        long recordNo = 0;
+
+        for (int i = 0; i < paths.size(); i++) {
+            Path path = paths.get(i);
+            long firstRecordNo = firstRecordNoOf(path);
+            Segment segment = new Segment(firstRecordNo, (int) (size(path) / RECORD_SIZE), map(path, size(path)));
+            if (firstRecordNo != recordNo) {
+                log.warn("point history segment {} does not follow record {}. it will be discarded", path, recordNo);
+                discard(paths.subList(i, paths.size()));
+                break;
+            }
+            recovered.add(segment);
+
+            boolean tail = false;
+            for (int slot = 0; slot < segment.capacity(); slot++) {
+                int offset = slot * RECORD_SIZE;
+                MappedByteBuffer buffer = segment.buffer();
+                long id = buffer.getLong(offset);
+                if (id != recordNo + 1 || buffer.getInt(offset + CRC_OFFSET) != crcOf(crc, buffer, offset)) {
+                    clear(buffer, offset);
+                    tail = true;
+                    break;
+                }
+                PointHistory pointHistory = readRecord(buffer, offset);
+                userOffsets.computeIfAbsent(pointHistory.userId(), key -> new UserOffsets()).append(id);
+                recordNo++;
+            }
+            if (tail) {
+                discard(paths.subList(i + 1, paths.size()));
+                break;
+            }
+        }
+
+        segments = recovered.toArray(new Segment[0]);
+        nextId = recordNo + 1;
+        log.info("point history log recovered. {} records in {} segments", recordNo, recovered.size());
+    }
+
+    private List<Path> segmentPaths() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(path -> {
+                            String name = path.getFileName().toString();
+                            return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                        })
+                        .sorted()
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long firstRecordNoOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, long size) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void discard(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 로그의 끝 이후 영역을 0 으로 지운다.
+    private static void clear(MappedByteBuffer buffer, int from) {
+        for (int offset = from; offset < buffer.capacity(); offset += 8) {
+            buffer.putLong(offset, 0L);
+        }
+        buffer.force();
+    }
+
+    private static int crcOf(CRC32C crc, MappedByteBuffer buffer, int offset) {
+        crc.reset();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private record Segment(long firstRecordNo, int capacity, MappedByteBuffer buffer) {
+
+        boolean contains(long recordNo) {
+            return recordNo >= firstRecordNo && recordNo < firstRecordNo + capacity;
+        }
+
+        int offsetOf(long id) {
+            return (int) (id - 1 - firstRecordNo) * RECORD_SIZE;
+        }
+    }
+
+    /**
+     * 한 유저의 내역 id 목록 (append-only)
+     * - 쓰기는 appendLock 안에서만 일어나고, 읽기는 Lock 없이 마지막으로 공개된 상태(ids, size)를 읽는다.
+     */
+    private static final class UserOffsets {
+
+        private volatile Published published = new Published(new long[4], 0);
+
+        void append(long id) {
+            long[] ids = published.ids();
+            int size = published.size();
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[size] = id;
+            published = new Published(ids, size + 1);
+        }
+
+        long[] snapshot() {
+            Published current = published;
+            return Arrays.copyOf(current.ids(), current.size());
+        }
+    }
+
+    private record Published(long[] ids, int size) {
+    }
+}
@@ -0,0 +1,189 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 힙 밖(direct ByteBuffer)에 잔액을 저장하는 잔액 저장소 (point.storage.balance=off-heap)
+ * - 유저마다 id, point, updateMillis 를 24 바이트 슬롯에 그대로 저장하는 open addressing 해시 테이블이다.
+ * - 박싱된 Long 키, Map.Entry, UserPoint 객체를 보관하지 않으므로 유저 수가 많아져도 힙과 GC 부담이 늘지 않는다.
+ * - UserPoint 는 조회/저장 결과를 돌려줄 때만 만든다.
+ * - 세그먼트별로 StampedLock 을 사용해서 조회는 대부분 Lock 없이(optimistic read) 처리한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.storage", name = "balance", havingValue = "off-heap")
+public class OffHeapUserPointStore implements UserPointStore {
+
+    private static final int SEGMENT_COUNT = 64;
+    private static final long EMPTY = Long.MIN_VALUE; // 비어 있는 슬롯의 id
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public OffHeapUserPointStore(PointStorageProperties properties) {
+        int capacityPerSegment = Math.max(16, properties.offHeapInitialCapacity() / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(Integer.highestOneBit(capacityPerSegment - 1) << 1);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = segmentOf(id).get(id, hash(id));
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        if (id == EMPTY) {
+            throw new IllegalArgumentException("unsupported user id: " + id);
+        }
+        long updateMillis = System.currentTimeMillis();
+        segmentOf(id).put(id, hash(id), amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    // 저장된 유저 수
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long id) {
+        return segments[(int) (hash(id) >>> 58)]; // 상위 6비트로 세그먼트를 고른다.
+    }
+
+    // MurmurHash3 finalizer
+    private static long hash(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Segment {
+
+        private static final int SLOT_SIZE = 24; // id(8) + point(8) + updateMillis(8)
+        private static final float LOAD_FACTOR = 0.75f;
+
+        private final StampedLock lock = new StampedLock();
+        private ByteBuffer slots;
+        private int size;
+
+        private Segment(int capacity) {
+            this.slots = allocate(capacity);
+        }
+
+        private UserPoint get(long id, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = find(slots, id, hash);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    userPoint = find(slots, id, hash);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return userPoint;
+        }
+
+        private void put(long id, long hash, long point, long updateMillis) {
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(slots, id, hash);
+                if (slots.getLong(index * SLOT_SIZE) == EMPTY) {
+                    if (size + 1 > capacityOf(slots) * LOAD_FACTOR) {
+                        slots = resize(slots, capacityOf(slots) * 2);
+                        index = indexOf(slots, id, hash);
+                    }
+                    size++;
+                }
+                int offset = index * SLOT_SIZE;
+                slots.putLong(offset, id);
+                slots.putLong(offset + 8, point);
+                slots.putLong(offset + 16, updateMillis);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // optimistic read 중에는 쓰기와 겹쳐 찢어진 값을 읽을 수 있지만, validate 에 실패하므로 결과는 버려진다.
+        private static UserPoint find(ByteBuffer slots, long id, long hash) {
+            int capacity = capacityOf(slots);
+            int mask = capacity - 1;
+            int index = (int) hash & mask;
+            for (int probe = 0; probe < capacity; probe++) {
+                int offset = index * SLOT_SIZE;
+                long slotId = slots.getLong(offset);
+                if (slotId == id) {
+                    return new UserPoint(id, slots.getLong(offset + 8), slots.getLong(offset + 16));
+                }
+                if (slotId == EMPTY) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        // id 가 저장된 슬롯, 없으면 id 를 저장할 빈 슬롯의 위치 (쓰기 Lock 을 잡은 상태에서만 호출)
+        private static int indexOf(ByteBuffer slots, long id, long hash) {
+            int mask = capacityOf(slots) - 1;
+            int index = (int) hash & mask;
+            while (true) {
+                long slotId = slots.getLong(index * SLOT_SIZE);
+                if (slotId == id || slotId == EMPTY) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private static ByteBuffer resize(ByteBuffer slots, int capacity) {
+            ByteBuffer resized = allocate(capacity);
+            for (int index = 0; index < capacityOf(slots); index++) {
+                int offset = index * SLOT_SIZE;
+                long id = slots.getLong(offset);
+                if (id == EMPTY) {
+                    continue;
+                }
+                int target = indexOf(resized, id, hash(id)) * SLOT_SIZE;
+                resized.putLong(target, id);
+                resized.putLong(target + 8, slots.getLong(offset + 8));
+                resized.putLong(target + 16, slots.getLong(offset + 16));
+            }
+            return resized;
+        }
+
+        private static ByteBuffer allocate(int capacity) {
+            ByteBuffer slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+            for (int index = 0; index < capacity; index++) {
+                slots.putLong(index * SLOT_SIZE, EMPTY);
+            }
+            return slots;
+        }
+
+        private static int capacityOf(ByteBuffer slots) {
+            return slots.capacity() / SLOT_SIZE;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 잔액 스냅샷 (point.snapshot.enabled=true)
+ * - 내역 로그(MappedPointHistoryStore)를 기준으로, 특정 내역 id 시점의 모든 유저 잔액을 주기적으로 파일에 남긴다.
+ * - 새 스냅샷은 직전 스냅샷 파일을 한 건씩 읽으면서 그 이후 내역의 유저별 변화량을 더해 쓴다.
+ *   메모리에는 스냅샷 사이에 내역이 생긴 유저의 변화량만 잠깐 두고, 전체 잔액을 따로 들고 있지 않는다.
+ * - 시작할 때는 가장 최근의 온전한 스냅샷을 읽고 그 이후의 내역만 다시 적용해서 잔액 저장소를 채운다.
+ *   내역이 아무리 많아도 시작 시간은 스냅샷 이후에 쌓인 내역 수에만 비례한다.
+ * - 체크섬이 맞지 않거나 로그보다 앞선 스냅샷은 건너뛰고, 쓸 수 있는 스냅샷이 없으면 전체 내역을 다시 적용한다.
+ *
+ * 파일 형식 : [magic int][version int][historyId long][count int] + count * [id long|point long|updateMillis long] + [crc32c int]
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.snapshot", name = "enabled", havingValue = "true")
+public class PointBalanceSnapshotter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBalanceSnapshotter.class);
+
+    private static final int MAGIC = 0x50534e50; // "PSNP"
+    private static final int VERSION = 1;
+    private static final String FILE_PREFIX = "snapshot-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final int retain;
+    private final MappedPointHistoryStore pointHistoryStore;
+    private final UserPointStore userPointStore;
+    private final ScheduledExecutorService scheduler;
+
+    // 다음 스냅샷의 기준이 되는 스냅샷 파일과 그 내역 id. lock 을 잡은 상태에서만 읽고 쓴다.
+    private final Lock lock = new ReentrantLock();
+    private Path lastSnapshot;
+    private long appliedId;
+
+    private final RestoreResult lastRestore;
+
+    public PointBalanceSnapshotter(PointSnapshotProperties properties, MappedPointHistoryStore pointHistoryStore,
+                                   UserPointStore userPointStore, WorkerThreads workerThreads) {
+        this.directory = Path.of(properties.directory());
+        this.retain = Math.max(1, properties.retain());
+        this.pointHistoryStore = pointHistoryStore;
+        this.userPointStore = userPointStore;
+        this.lastRestore = restore();
+
+        long intervalMillis = properties.interval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(workerThreads.factory("point-snapshot-"));
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 지금까지 기록된 내역까지 반영한 스냅샷을 남기고, 그 기준 내역 id 를 반환한다.
+     */
+    public long snapshot() {
+        lock.lock();
+        try {
+            Map<Long, Delta> deltas = new HashMap<>();
+            long historyId = collect(appliedId, deltas).lastId();
+            if (lastSnapshot != null && historyId == appliedId) {
+                return appliedId; // 직전 스냅샷 이후에 기록된 내역이 없다.
+            }
+            try {
+                lastSnapshot = write(lastSnapshot, historyId, deltas);
+                appliedId = historyId;
+            } catch (IOException e) {
+                // 기준 스냅샷을 읽지 못했을 수 있으므로, 다음 스냅샷은 전체 내역으로 다시 만든다.
+                lastSnapshot = null;
+                appliedId = 0L;
+                throw new UncheckedIOException(e);
+            }
+            prune();
+            return appliedId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 시작할 때 복구한 결과
+    public RestoreResult lastRestore() {
+        return lastRestore;
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdown();
+        snapshotQuietly();
+    }
+
+    private RestoreResult restore() {
+        lock.lock();
+        try {
+            long lastId = pointHistoryStore.lastId();
+            for (Path path : snapshotFiles()) {
+                Header header = verify(path);
+                if (header == null) {
+                    continue;
+                }
+                if (header.historyId() > lastId) {
+                    log.warn("point snapshot {} is ahead of the history log (last id {}). it will be skipped", path, lastId);
+                    continue;
+                }
+                lastSnapshot = path;
+                appliedId = header.historyId();
+                break;
+            }
+
+            Map<Long, Delta> deltas = new HashMap<>();
+            long replayed = collect(appliedId, deltas).rows();
+            int users = merge(lastSnapshot, deltas, (id, point, updateMillis) -> userPointStore.insertOrUpdate(id, point));
+            log.info("restored {} point balances from snapshot at history id {} and {} newer history rows",
+                    users, appliedId, replayed);
+            return new RestoreResult(appliedId, replayed, users);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // afterId 이후의 내역을 유저별 변화량으로 모은다.
+    private Replay collect(long afterId, Map<Long, Delta> deltas) {
+        long[] progress = {afterId, 0L};
+        pointHistoryStore.forEachAfter(afterId, pointHistory -> {
+            Delta delta = deltas.computeIfAbsent(pointHistory.userId(), id -> new Delta());
+            delta.amount += pointHistory.type() == TransactionType.CHARGE ? pointHistory.amount() : -pointHistory.amount();
+            delta.updateMillis = pointHistory.updateMillis();
+            progress[0] = pointHistory.id();
+            progress[1]++;
+        });
+        return new Replay(progress[0], progress[1]);
+    }
+
+    // 기준 스냅샷의 잔액에 변화량을 더해서 한 건씩 넘기고, 넘긴 유저 수를 반환한다. (넘긴 변화량은 deltas 에서 지운다)
+    private int merge(Path base, Map<Long, Delta> deltas, BalanceSink sink) throws IOException {
+        int[] count = {0};
+        if (base != null) {
+            forEachEntry(base, (id, point, updateMillis) -> {
+                Delta delta = deltas.remove(id);
+                if (delta == null) {
+                    sink.accept(id, point, updateMillis);
+                } else {
+                    sink.accept(id, point + delta.amount, delta.updateMillis);
+                }
+                count[0]++;
+            });
+        }
+        for (Map.Entry<Long, Delta> entry : deltas.entrySet()) {
+            sink.accept(entry.getKey(), entry.getValue().amount, entry.getValue().updateMillis);
+            count[0]++;
+        }
+        return count[0];
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("failed to write point snapshot", e);
+        }
+    }
+
+    // 임시 파일에 쓰고 디스크에 저장(force)한 뒤 이름을 바꿔서, 쓰는 도중이나 OS 가 멈춰도 온전한 파일만 남도록 한다.
+    private Path write(Path base, long historyId, Map<Long, Delta> deltas) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", FILE_PREFIX, historyId, FILE_SUFFIX));
+        Path temp = directory.resolve(path.getFileName() + ".tmp");
+        Files.createDirectories(directory);
+
+        // 헤더에 유저 수를 먼저 써야 하므로, 기준 스냅샷에 없던 유저 수를 미리 센다.
+        int count = deltas.size();
+        if (base != null) {
+            int[] overlap = {0};
+            Header header = forEachEntry(base, (id, point, updateMillis) -> {
+                if (deltas.containsKey(id)) {
+                    overlap[0]++;
+                }
+            });
+            count += header.count() - overlap[0];
+        }
+
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(historyId);
+            out.writeInt(count);
+            int written = merge(base, deltas, (id, point, updateMillis) -> {
+                out.writeLong(id);
+                out.writeLong(point);
+                out.writeLong(updateMillis);
+            });
+            if (written != count) {
+                throw new IOException("point snapshot " + base + " changed while writing " + path);
+            }
+            out.flush();
+            int checksum = (int) crc.getValue();
+            out.writeInt(checksum);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return path;
+    }
+
+    // 파일이 손상되었으면 null 을 반환한다.
+    private Header verify(Path path) {
+        try {
+            return forEachEntry(path, (id, point, updateMillis) -> {
+            });
+        } catch (IOException e) {
+            log.warn("point snapshot {} could not be read. it will be skipped : {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    // 스냅샷의 잔액을 한 건씩 읽는다. 체크섬은 끝까지 읽은 뒤에 확인하므로, 손상된 파일은 verify 로 먼저 걸러야 한다.
+    private Header forEachEntry(Path path, BalanceSink sink) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(file), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("unknown format");
+            }
+            long historyId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                sink.accept(in.readLong(), in.readLong(), in.readLong());
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("bad checksum");
+            }
+            return new Header(historyId, count);
+        }
+    }
+
+    private void prune() {
+        List<Path> files = snapshotFiles();
+        for (Path path : files.subList(Math.min(retain, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("failed to delete old point snapshot {}", path, e);
+            }
+        }
+    }
+
+    // 최신 스냅샷부터 정렬한다.
+    private List<Path> snapshotFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BalanceSink {
+        void accept(long id, long point, long updateMillis) throws IOException;
+    }
+
+    // 스냅샷 이후 한 유저의 잔액 변화량
+    private static final class Delta {
+        private long amount;
+        private long updateMillis;
+    }
+
+    private record Header(long historyId, int count) {
+    }
+
+    private record Replay(long lastId, long rows) {
+    }
+
+    public record RestoreResult(long snapshotHistoryId, long replayedRows, int users) {
+    }
+}
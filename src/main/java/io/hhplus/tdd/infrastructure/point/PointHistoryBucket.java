@@ -0,0 +1,74 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistory.Granularity;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 유저의 일/월 단위 내역 집계
+ * - 충전/사용 별로 합계와 건수, 집계에 포함된 마지막 내역 id 를 가진다. firstId 는 집계에 포함된 첫 내역 id 이다.
+ * - 내역 조회 시에는 충전/사용 별로 한 건의 집계 내역(id = 마지막 내역 id, updateMillis = 기간 시작 시각)으로 보여진다.
+ *   집계 내역에는 PointHistory.Bucket(단위, 첫 내역 id, 건수)이 붙어서 원본 내역과 구분된다.
+ *   집계는 id 순서로 연속된 내역을 묶으므로, 집계 내역과 원본 내역을 합쳐도 id 순서와 커서 조회가 그대로 유지된다.
+ */
+record PointHistoryBucket(
+        Granularity granularity,
+        long startMillis,
+        long userId,
+        long firstId,
+        long charged,
+        long chargeCount,
+        long lastChargeId,
+        long used,
+        long useCount,
+        long lastUseId
+) {
+    static long startOf(Granularity granularity, long millis, ZoneId zone) {
+        ZonedDateTime time = Instant.ofEpochMilli(millis).atZone(zone).truncatedTo(ChronoUnit.DAYS);
+        return (granularity == Granularity.MONTH ? time.withDayOfMonth(1) : time).toInstant().toEpochMilli();
+    }
+
+    static PointHistoryBucket of(PointHistory pointHistory, Granularity granularity, ZoneId zone) {
+        long startMillis = startOf(granularity, pointHistory.updateMillis(), zone);
+        return pointHistory.type() == TransactionType.CHARGE
+                ? new PointHistoryBucket(granularity, startMillis, pointHistory.userId(), pointHistory.id(),
+                        pointHistory.amount(), 1L, pointHistory.id(), 0L, 0L, 0L)
+                : new PointHistoryBucket(granularity, startMillis, pointHistory.userId(), pointHistory.id(),
+                        0L, 0L, 0L, pointHistory.amount(), 1L, pointHistory.id());
+    }
+
+    // 뒤에 오는 집계를 합친다. (기간과 단위는 앞의 집계를 따른다)
+    PointHistoryBucket merge(PointHistoryBucket next) {
+        return new PointHistoryBucket(granularity, startMillis, userId, Math.min(firstId, next.firstId),
+                charged + next.charged, chargeCount + next.chargeCount, Math.max(lastChargeId, next.lastChargeId),
+                used + next.used, useCount + next.useCount, Math.max(lastUseId, next.lastUseId));
+    }
+
+    PointHistoryBucket toMonth(ZoneId zone) {
+        return new PointHistoryBucket(Granularity.MONTH, startOf(Granularity.MONTH, startMillis, zone), userId, firstId,
+                charged, chargeCount, lastChargeId, used, useCount, lastUseId);
+    }
+
+    // 조회 결과에 들어갈 내역 (id 오름차순)
+    List<PointHistory> toRows() {
+        List<PointHistory> rows = new ArrayList<>(2);
+        if (chargeCount > 0) {
+            rows.add(new PointHistory(lastChargeId, userId, charged, TransactionType.CHARGE, startMillis,
+                    new PointHistory.Bucket(granularity, firstId, chargeCount)));
+        }
+        if (useCount > 0) {
+            rows.add(new PointHistory(lastUseId, userId, used, TransactionType.USE, startMillis,
+                    new PointHistory.Bucket(granularity, firstId, useCount)));
+        }
+        rows.sort(Comparator.comparingLong(PointHistory::id));
+        return rows;
+    }
+}
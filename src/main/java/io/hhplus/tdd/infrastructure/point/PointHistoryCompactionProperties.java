@@ -0,0 +1,24 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 오래된 포인트 내역 압축 설정 (point.storage.history=table 일 때만 사용할 수 있다)
+ * - enabled : 압축 사용 여부
+ * - rawRetention : 내역을 건별로 보관하는 기간 (이보다 오래된 내역은 일별 집계로 바꾼다)
+ * - dailyRetention : 일별 집계를 보관하는 기간 (이보다 오래된 집계는 월별 집계로 합친다)
+ * - interval : 압축을 실행하는 주기
+ * - zone : 일/월 경계를 정하는 시간대
+ */
+@ConfigurationProperties(prefix = "point.history-compaction")
+public record PointHistoryCompactionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30d") Duration rawRetention,
+        @DefaultValue("365d") Duration dailyRetention,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("Asia/Seoul") String zone
+) {
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래된 포인트 내역 압축 (point.history-compaction.enabled=true)
+ * - 주기적으로 rawRetention 보다 오래된 내역을 유저별 일별 집계로, dailyRetention 보다 오래된 일별 집계를 월별 집계로 바꾼다.
+ * - 최근 내역은 건별로 그대로 남기므로, 유저별 조회가 읽는 인덱스 구간은 최근 내역 수와 기간 수에만 비례한다.
+ * - 집계는 내역 조회와 내보내기 결과에 충전/사용 별 한 건씩(PointHistory.bucket 에 건수 포함) 합쳐서 내려간다. (PointHistoryBucket)
+ * - 메모리는 줄지 않는다. PointHistoryTable 은 변경할 수 없어서 원본 내역을 모두 그대로 보관하기 때문이다.
+ *   압축으로 줄어드는 것은 조회에 사용하는 인덱스의 크기(와 조회할 때 훑는 내역 수)뿐이다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.history-compaction", name = "enabled", havingValue = "true")
+public class PointHistoryCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryCompactor.class);
+
+    private final PointHistoryIndex pointHistoryIndex;
+    private final long rawRetentionMillis;
+    private final long dailyRetentionMillis;
+    private final ZoneId zone;
+    private final ScheduledExecutorService scheduler;
+
+    public PointHistoryCompactor(PointHistoryCompactionProperties properties, PointHistoryIndex pointHistoryIndex,
+                                 WorkerThreads workerThreads) {
+        if (properties.dailyRetention().compareTo(properties.rawRetention()) < 0) {
+            throw new IllegalArgumentException("point.history-compaction.daily-retention must not be shorter than raw-retention");
+        }
+        this.pointHistoryIndex = pointHistoryIndex;
+        this.rawRetentionMillis = properties.rawRetention().toMillis();
+        this.dailyRetentionMillis = properties.dailyRetention().toMillis();
+        this.zone = ZoneId.of(properties.zone());
+
+        long intervalMillis = properties.interval().toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(workerThreads.factory("point-history-compaction-"));
+        scheduler.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * nowMillis 기준으로 오래된 내역을 압축하고, 집계로 바뀐 내역 수를 반환한다.
+     */
+    public long compact(long nowMillis) {
+        return pointHistoryIndex.compact(nowMillis - rawRetentionMillis, nowMillis - dailyRetentionMillis, zone);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    private void compactQuietly() {
+        try {
+            long compacted = compact(System.currentTimeMillis());
+            if (compacted > 0) {
+                log.info("compacted {} point history rows into buckets", compacted);
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to compact point histories", e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistory.Granularity;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 유저별 포인트 내역 인덱스
+ * - PointHistoryTable 은 전체 내역을 하나의 리스트에 담고 있어서 유저별 조회 시 전체를 훑어야 한다.
+ * - 테이블에 저장된 내역을 유저별 append-only 세그먼트에 같이 쌓아두고, 조회는 해당 유저의 세그먼트만 읽는다.
+ * - 압축(compact)을 사용하면 오래된 내역은 세그먼트 앞부분에서 일/월 집계 내역으로 바뀐다. (PointHistoryBucket)
+ *   집계 내역은 PointHistory.bucket 으로 원본 내역과 구분되고, 유저별 조회와 forEach(전체 내보내기, 집계 재계산)에 모두 포함된다.
+ *   압축된 원본 내역은 인덱스에서 빠지므로 인덱스로는 다시 읽을 수 없다. (PointHistoryTable 에는 그대로 남아 있다)
+ */
+@Component
+public class PointHistoryIndex {
+
+    private final Map<Long, UserSegment> segments = new ConcurrentHashMap<>();
+
+    public void append(PointHistory pointHistory) {
+        segments.computeIfAbsent(pointHistory.userId(), id -> new UserSegment())
+                .append(pointHistory);
+    }
+
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserSegment segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        return segment.snapshot();
+    }
+
+    /**
+     * 커서 이후의 내역 중 조건에 맞는 내역을 최대 query.size() 개까지 조회한다.
+     * 커서 위치는 이진 탐색으로 찾고, 필요한 구간만 읽는다.
+     */
+    public List<PointHistory> selectHistories(long userId, PointHistoryQuery query) {
+        UserSegment segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        return segment.slice(query);
+    }
+
+    // 인덱스에 쌓인 모든 내역을 유저별로 차례로 읽는다. 압축된 기간은 유저별 조회와 같이 집계 내역으로 읽는다.
+    public void forEach(Consumer<PointHistory> consumer) {
+        for (UserSegment segment : segments.values()) {
+            Published current = segment.published;
+            for (int i = 0; i < current.size(); i++) {
+                consumer.accept(current.rows()[i]);
+            }
+        }
+    }
+
+    /**
+     * rawCutoffMillis 보다 오래된 내역을 일별 집계로, dailyCutoffMillis 보다 오래된 집계는 월별 집계로 바꾼다.
+     * 집계로 바뀐 내역 수를 반환한다.
+     */
+    public long compact(long rawCutoffMillis, long dailyCutoffMillis, ZoneId zone) {
+        long compacted = 0;
+        for (UserSegment segment : segments.values()) {
+            compacted += segment.compact(rawCutoffMillis, dailyCutoffMillis, zone);
+        }
+        return compacted;
+    }
+
+    /**
+     * 한 유저의 내역을 담는 append-only 세그먼트
+     * - 쓰기는 세그먼트 단위로 직렬화하고, 읽기는 Lock 없이 마지막으로 공개된 상태(rows, size)를 읽는다.
+     * - rows[0, size) 구간은 공개된 이후 바뀌지 않으므로 쓰기 도중에도 안전하게 읽을 수 있다.
+     *   (압축은 기존 배열을 고치지 않고 새 배열을 만들어서 공개한다)
+     * - rows[0, bucketRows) 구간은 오래된 내역을 집계한 내역이다. (bucket 이 null 이 아니다)
+     */
+    private static final class UserSegment {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private volatile Published published = new Published(new PointHistory[INITIAL_CAPACITY], 0, 0);
+        private final List<PointHistoryBucket> buckets = new ArrayList<>(); // 세그먼트 Lock 을 잡은 상태에서만 사용
+
+        synchronized void append(PointHistory pointHistory) {
+            PointHistory[] rows = published.rows();
+            int size = published.size();
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+            }
+            rows[size] = pointHistory;
+            published = new Published(rows, size + 1, published.bucketRows());
+        }
+
+        synchronized long compact(long rawCutoffMillis, long dailyCutoffMillis, ZoneId zone) {
+            Published current = published;
+            PointHistory[] rows = current.rows();
+            // id 순서를 유지하기 위해 앞에서부터 연속으로 오래된 내역만 집계한다.
+            int from = current.bucketRows();
+            int to = from;
+            while (to < current.size() && rows[to].updateMillis() < rawCutoffMillis) {
+                to++;
+            }
+            boolean rollUp = buckets.stream().anyMatch(bucket ->
+                    bucket.granularity() == Granularity.DAY && bucket.startMillis() < dailyCutoffMillis);
+            if (to == from && !rollUp) {
+                return 0;
+            }
+
+            for (int i = from; i < to; i++) {
+                add(PointHistoryBucket.of(rows[i], Granularity.DAY, zone));
+            }
+            List<PointHistoryBucket> daily = new ArrayList<>(buckets);
+            buckets.clear();
+            for (PointHistoryBucket bucket : daily) {
+                boolean expired = bucket.granularity() == Granularity.DAY && bucket.startMillis() < dailyCutoffMillis;
+                add(expired ? bucket.toMonth(zone) : bucket);
+            }
+
+            List<PointHistory> bucketRows = new ArrayList<>();
+            for (PointHistoryBucket bucket : buckets) {
+                bucketRows.addAll(bucket.toRows());
+            }
+            int remaining = current.size() - to;
+            PointHistory[] next = new PointHistory[Math.max(INITIAL_CAPACITY, (bucketRows.size() + remaining) * 2)];
+            bucketRows.toArray(next);
+            System.arraycopy(rows, to, next, bucketRows.size(), remaining);
+            published = new Published(next, bucketRows.size() + remaining, bucketRows.size());
+            return to - from;
+        }
+
+        // 기간이 같거나 앞선 집계(시간이 거꾸로 기록된 내역)는 마지막 집계에 합쳐서 id 순서를 유지한다.
+        private void add(PointHistoryBucket bucket) {
+            int last = buckets.size() - 1;
+            if (last >= 0 && buckets.get(last).startMillis() >= bucket.startMillis()) {
+                buckets.set(last, buckets.get(last).merge(bucket));
+            } else {
+                buckets.add(bucket);
+            }
+        }
+
+        List<PointHistory> snapshot() {
+            Published current = published;
+            return List.of(Arrays.copyOf(current.rows(), current.size()));
+        }
+
+        List<PointHistory> slice(PointHistoryQuery query) {
+            Published current = published;
+            PointHistory[] rows = current.rows();
+            long afterId = query.afterId();
+            int from = firstIndexAfter(current, afterId);
+            // 커서가 집계 내역의 id 가 아니면, 압축 전에 받은 커서가 집계 구간 안을 가리키는 경우다.
+            // 이미 일부를 읽은 집계는 다시 세지 않도록 건너뛴다.
+            boolean cursorInsideBucket = from < current.bucketRows() && (from == 0 || rows[from - 1].id() != afterId);
+            List<PointHistory> result = new ArrayList<>(Math.min(query.size(), current.size()));
+            for (int i = from; i < current.size() && result.size() < query.size(); i++) {
+                if (cursorInsideBucket && i < current.bucketRows() && rows[i].bucket().firstId() <= afterId) {
+                    continue;
+                }
+                if (query.matches(rows[i])) {
+                    result.add(rows[i]);
+                }
+            }
+            return result;
+        }
+
+        // 세그먼트는 id 오름차순으로 쌓이므로 id 가 afterId 보다 큰 첫 위치를 이진 탐색으로 찾는다.
+        private static int firstIndexAfter(Published current, long afterId) {
+            int low = 0;
+            int high = current.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current.rows()[mid].id() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private record Published(PointHistory[] rows, int size, int bucketRows) {
+    }
+}
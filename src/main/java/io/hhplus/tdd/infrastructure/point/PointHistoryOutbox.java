@@ -0,0 +1,260 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.TooManyRequestsException;
+import io.hhplus.tdd.WorkerThreads;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 내역 outbox
+ * - 충전/사용 시 내역을 바로 테이블에 저장하지 않고 outbox 에 넣은 뒤 반환해서, 유저 Lock 을 잡고 있는 시간을 줄인다.
+ * - 백그라운드 스레드가 outbox 의 내역을 내역 저장소에 순서대로 저장한다.
+ * - 아직 저장되지 않은 내역은 조회 시 합쳐서 내려주므로 같은 유저는 자신이 쓴 내역을 바로 읽을 수 있다.
+ *   (저장 전 내역은 id 가 발급되지 않아 id 가 0 으로 내려간다.)
+ * - 커서로 나눠 읽는 조회에서는 저장 전 내역을 마지막 페이지에만, 페이지를 가득 채우지 않는 만큼만 넣는다.
+ *   가득 차지 않은 페이지는 마지막 페이지이므로, id 가 0 인 내역이 다음 페이지의 커서가 되어 처음부터 다시 읽는 일이 없다.
+ * - 저장에 maxRetries 번 넘게 실패한 내역은 dead letter 로 옮기고 error 로그를 남긴다. (다음 내역의 저장이 계속 막히지 않도록)
+ *   잔액과 집계에는 이미 반영되었으므로, dead letter 도 저장 전 내역처럼 조회 결과에 계속 합쳐서 내역과 잔액이 어긋나지 않게 한다.
+ *   dead letter 는 deadLetterCapacity 까지만 쌓고(point.history.outbox.dead.letters 지표), 가득 차면 옮기지 않고 계속 재시도한다.
+ * - outbox 가 가득 차서 publishTimeout 안에 넣지 못하면 TooManyRequestsException(429)으로 거절한다.
+ */
+@Component
+public class PointHistoryOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryOutbox.class);
+
+    private final PointHistoryOutboxProperties properties;
+    private final PointHistoryStore pointHistoryStore;
+
+    private final List<BlockingQueue<PendingHistory>> partitions = new ArrayList<>();
+    private final List<Thread> drainers = new ArrayList<>();
+    private final Map<Long, Queue<PendingHistory>> pendingByUser = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingHistory> deadLetters;
+    private volatile boolean running;
+
+    public PointHistoryOutbox(PointHistoryOutboxProperties properties,
+                              PointHistoryStore pointHistoryStore,
+                              WorkerThreads workerThreads,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pointHistoryStore = pointHistoryStore;
+        this.deadLetters = new ArrayBlockingQueue<>(Math.max(1, properties.deadLetterCapacity()));
+        Gauge.builder("point.history.outbox.dead.letters", deadLetters, Queue::size)
+                .description("저장에 계속 실패해서 dead letter 로 옮긴 포인트 내역 수")
+                .register(meterRegistry);
+
+        if (properties.enabled()) {
+            int drainerCount = Math.max(1, properties.drainers());
+            int capacityPerPartition = Math.max(1, properties.capacity() / drainerCount);
+            ThreadFactory threadFactory = workerThreads.factory("point-history-outbox-");
+            running = true;
+            for (int i = 0; i < drainerCount; i++) {
+                BlockingQueue<PendingHistory> partition = new ArrayBlockingQueue<>(capacityPerPartition);
+                Thread drainer = threadFactory.newThread(() -> drain(partition));
+                partitions.add(partition);
+                drainers.add(drainer);
+                drainer.start();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 내역을 outbox 에 넣는다. outbox 가 가득 차 있으면 publishTimeout 만큼 기다리고, 그래도 자리가 없으면 429 로 거절한다.
+     */
+    public void publish(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) {
+            throw new IllegalStateException("point history outbox is not running");
+        }
+        PendingHistory pending = new PendingHistory(userId, amount, type, updateMillis);
+        pendingByUser.compute(userId, (id, queue) -> {
+            Queue<PendingHistory> pendingQueue = queue == null ? new ConcurrentLinkedQueue<>() : queue;
+            pendingQueue.add(pending);
+            return pendingQueue;
+        });
+
+        boolean accepted;
+        try {
+            accepted = partitionOf(userId).offer(pending, properties.publishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            removePending(pending);
+            throw new TooManyRequestsException("포인트 내역 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 저장된 내역(persistedReader)에 아직 저장되지 않은 내역을 합쳐서 반환한다.
+     * 대기 내역을 먼저 읽고 저장된 내역을 나중에 읽어서, 그 사이에 저장이 끝난 내역도 빠지지 않도록 한다.
+     * 조회 조건(query)이 있으면 저장된 내역이 페이지를 다 채우지 못한 마지막 페이지에만 합치고,
+     * 저장 전 내역은 페이지가 가득 차지 않는 만큼(size - 1 건까지)만 넣는다.
+     */
+    public List<PointHistory> mergePending(long userId, PointHistoryQuery query, HistoryReader persistedReader) {
+        Queue<PendingHistory> queue = pendingByUser.get(userId);
+        List<PendingHistory> pending = queue == null ? List.of() : List.copyOf(queue);
+        List<PointHistory> persisted = persistedReader.read();
+        if (pending.isEmpty() || (query != null && persisted.size() >= query.size())) {
+            return persisted;
+        }
+
+        long lastId = persisted.isEmpty()
+                ? (query == null ? 0L : query.afterId())
+                : persisted.get(persisted.size() - 1).id();
+        List<PointHistory> merged = new ArrayList<>(persisted);
+        for (PendingHistory pendingHistory : pending) {
+            if (query != null && merged.size() >= query.size()) {
+                break;
+            }
+            PointHistory saved = pendingHistory.saved;
+            if (saved != null && saved.id() <= lastId) {
+                continue; // 이미 저장된 내역 조회 결과에 포함되어 있다.
+            }
+            if (saved == null && query != null && merged.size() >= query.size() - 1) {
+                continue; // 저장 전 내역으로 페이지를 채우면 id 0 이 다음 페이지의 커서가 된다.
+            }
+            PointHistory pointHistory = saved != null ? saved : pendingHistory.toPointHistory();
+            if (query == null || query.matches(pointHistory)) {
+                merged.add(pointHistory);
+            }
+        }
+        return merged;
+    }
+
+    // 저장에 계속 실패해서 저장하지 못한 내역
+    public List<PointHistory> deadLetters() {
+        return deadLetters.stream().map(PendingHistory::toPointHistory).toList();
+    }
+
+    /**
+     * 종료 시 outbox 에 남은 내역을 모두 저장할 때까지 기다린다.
+     */
+    @PreDestroy
+    public void flush() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + properties.shutdownTimeout().toNanos();
+        for (Thread drainer : drainers) {
+            try {
+                drainer.join(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = partitions.stream().mapToInt(Queue::size).sum();
+        if (remaining > 0) {
+            log.error("point history outbox shutdown timed out. {} histories were not saved", remaining);
+        }
+    }
+
+    private BlockingQueue<PendingHistory> partitionOf(long userId) {
+        return partitions.get(Math.floorMod(Long.hashCode(userId), partitions.size()));
+    }
+
+    private void drain(BlockingQueue<PendingHistory> partition) {
+        while (running || !partition.isEmpty()) {
+            PendingHistory pending;
+            try {
+                pending = partition.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue; // 종료 시 남은 내역을 마저 저장하기 위해 인터럽트는 무시한다.
+            }
+            if (pending != null) {
+                save(pending);
+            }
+        }
+    }
+
+    // 저장에 성공할 때까지 maxRetries 번 재시도한다. 같은 파티션의 다음 내역은 이 내역이 저장(또는 dead letter)된 뒤에 처리된다.
+    // dead letter 가 가득 차 있으면 옮기지 않고 계속 재시도한다. (파티션이 막히면 publish 가 429 로 거절된다)
+    private void save(PendingHistory pending) {
+        long backoffMillis = properties.retryBackoff().toMillis();
+        long maxBackoffMillis = backoffMillis * 10;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                PointHistory saved = pointHistoryStore.insert(pending.userId, pending.amount, pending.type, pending.updateMillis);
+                pending.saved = saved;
+                removePending(pending);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.maxRetries() && (deadLetter(pending, e) || !running)) {
+                    return; // 종료 중에는 dead letter 가 가득 차 있어도 더 기다리지 않는다.
+                }
+                log.warn("failed to save point history. userId={}, retry in {}ms", pending.userId, backoffMillis, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                } catch (InterruptedException ignored) {
+
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    // 잔액과 집계에 이미 반영된 내역이므로 대기 내역에서 지우지 않고, 조회 시 저장 전 내역처럼 계속 합쳐진다.
+    private boolean deadLetter(PendingHistory pending, RuntimeException cause) {
+        if (!deadLetters.offer(pending)) {
+            log.error("point history dead letter is full ({}). keep retrying {}", deadLetters.size(), pending.toPointHistory(), cause);
+            return false;
+        }
+        log.error("point history moved to dead letter after {} retries. {}", properties.maxRetries(), pending.toPointHistory(), cause);
+        return true;
+    }
+
+    private void removePending(PendingHistory pending) {
+        pendingByUser.computeIfPresent(pending.userId, (id, queue) -> {
+            queue.remove(pending);
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    @FunctionalInterface
+    public interface HistoryReader {
+        List<PointHistory> read();
+    }
+
+    private static final class PendingHistory {
+        private final long userId;
+        private final long amount;
+        private final TransactionType type;
+        private final long updateMillis;
+        private volatile PointHistory saved;
+
+        private PendingHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            this.userId = userId;
+            this.amount = amount;
+            this.type = type;
+            this.updateMillis = updateMillis;
+        }
+
+        private PointHistory toPointHistory() {
+            return new PointHistory(0L, userId, amount, type, updateMillis);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 비동기 저장(outbox) 설정
+ * - enabled : 내역을 outbox 에 넣고 바로 반환할지 여부 (false 면 기존처럼 동기 저장)
+ * - capacity : outbox 에 쌓아둘 수 있는 최대 내역 수 (가득 차면 publishTimeout 만큼 대기)
+ * - drainers : 내역을 테이블에 저장하는 스레드 수 (같은 유저의 내역은 항상 같은 스레드가 순서대로 저장)
+ * - publishTimeout : outbox 가 가득 찼을 때 최대 대기 시간
+ * - retryBackoff : 저장 실패 시 재시도 간격 (실패할 때마다 2배씩, 최대 10배까지 늘어난다)
+ * - maxRetries : 저장 실패 시 최대 재시도 횟수 (넘으면 dead letter 로 옮기고 다음 내역을 저장한다)
+ * - deadLetterCapacity : dead letter 로 쌓아둘 수 있는 최대 내역 수 (가득 차면 옮기지 않고 계속 재시도한다)
+ * - shutdownTimeout : 종료 시 남은 내역을 저장하기 위해 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.history-outbox")
+public record PointHistoryOutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("4") int drainers,
+        @DefaultValue("1s") Duration publishTimeout,
+        @DefaultValue("100ms") Duration retryBackoff,
+        @DefaultValue("10") int maxRetries,
+        @DefaultValue("1000") int deadLetterCapacity,
+        @DefaultValue("30s") Duration shutdownTimeout
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 내역 저장소
+ */
+public interface PointHistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    List<PointHistory> selectHistories(long userId, PointHistoryQuery query);
+
+    // 저장된 모든 내역을 차례로 읽는다. (유저별로는 id 순서)
+    void forEach(Consumer<PointHistory> consumer);
+}
@@ -1,40 +1,126 @@
 package io.hhplus.tdd.infrastructure.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.domain.point.PointMetrics;
+import io.hhplus.tdd.domain.point.PointMetrics.StorageMethod;
 import io.hhplus.tdd.domain.point.PointRepository;
 import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.PointSummary;
 import io.hhplus.tdd.interfaces.api.point.TransactionType;
 import io.hhplus.tdd.domain.point.UserPoint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Repository
 public class PointRepositoryImpl implements PointRepository {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final UserPointCache userPointCache;
+    private final UserPointSingleFlight userPointSingleFlight;
+    private final PointHistoryOutbox pointHistoryOutbox;
+    private final PointSummaryAggregator pointSummaryAggregator;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointMetrics pointMetrics;
 
     @Override
     public UserPoint selectById(long id) {
-        return userPointTable.selectById(id);
+        long start = System.nanoTime();
+        try {
+            UserPoint cached = userPointCache.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            // 같은 유저에 대한 동시 조회는 저장소 호출 하나로 합친다.
+            return userPointSingleFlight.load(id, key -> {
+                UserPoint userPoint = userPointStore.selectById(key);
+                userPointCache.fill(userPoint);
+                return userPoint;
+            });
+        } finally {
+            pointMetrics.recordStorage(StorageMethod.SELECT_BY_ID, System.nanoTime() - start);
+        }
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        long start = System.nanoTime();
+        try {
+            if (pointHistoryOutbox.isEnabled()) {
+                return pointHistoryOutbox.mergePending(id, null, () -> pointHistoryStore.selectAllByUserId(id));
+            }
+            return pointHistoryStore.selectAllByUserId(id);
+        } finally {
+            pointMetrics.recordStorage(StorageMethod.SELECT_HISTORIES, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectHistories(long id, PointHistoryQuery query) {
+        long start = System.nanoTime();
+        try {
+            if (pointHistoryOutbox.isEnabled()) {
+                return pointHistoryOutbox.mergePending(id, query, () -> pointHistoryStore.selectHistories(id, query));
+            }
+            return pointHistoryStore.selectHistories(id, query);
+        } finally {
+            pointMetrics.recordStorage(StorageMethod.SELECT_HISTORIES, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public PointSummary selectSummary(long id) {
+        return pointSummaryAggregator.get(id);
+    }
+
+    @Override
+    public void forEachHistory(Consumer<PointHistory> consumer) {
+        pointHistoryStore.forEach(consumer); // outbox 에서 아직 저장되지 않은 내역은 포함하지 않는다.
     }
 
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        long start = System.nanoTime();
+        try {
+            if (pointWriteAheadLog.isEnabled()) {
+                pointWriteAheadLog.appendBalance(id, amount); // 내역으로 계산된 잔액과 다를 때만 기록된다.
+            }
+            UserPoint userPoint = userPointStore.insertOrUpdate(id, amount);
+            userPointCache.put(userPoint); // 저장된 잔액으로 캐시를 바로 갱신한다.
+            userPointSingleFlight.written(id); // 이후의 조회는 저장 전에 시작된 조회에 합류하지 않는다.
+            return userPoint;
+        } finally {
+            pointMetrics.recordStorage(StorageMethod.INSERT_OR_UPDATE, System.nanoTime() - start);
+        }
     }
 
     @Override
     public void insert(long id, long amount, TransactionType type, long updateMillis) {
-        pointHistoryTable.insert(id, amount, type, updateMillis);
+        long start = System.nanoTime();
+        try {
+            long seq = 0;
+            if (pointWriteAheadLog.isEnabled()) {
+                seq = pointWriteAheadLog.appendHistory(id, amount, type, updateMillis); // 저장소에 반영하기 전에 로그에 먼저 기록한다.
+            }
+            try {
+                if (pointHistoryOutbox.isEnabled()) {
+                    pointHistoryOutbox.publish(id, amount, type, updateMillis); // 테이블 저장은 outbox 가 비동기로 처리한다.
+                } else {
+                    pointHistoryStore.insert(id, amount, type, updateMillis);
+                }
+            } catch (RuntimeException e) {
+                if (seq > 0) {
+                    pointWriteAheadLog.abort(seq, id, amount, type); // 반영되지 않은 내역이 복구 시 되살아나지 않도록 취소를 남긴다.
+                }
+                throw e;
+            }
+            pointSummaryAggregator.apply(id, amount, type, updateMillis); // 내역이 저장되면 집계도 갱신한다.
+        } finally {
+            pointMetrics.recordStorage(StorageMethod.INSERT_HISTORY, System.nanoTime() - start);
+        }
     }
 }
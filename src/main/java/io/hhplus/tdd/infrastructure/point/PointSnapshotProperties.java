@@ -0,0 +1,22 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액 스냅샷 설정 (point.storage.history=mapped 일 때만 사용할 수 있다)
+ * - enabled : 스냅샷 사용 여부
+ * - directory : 스냅샷 파일을 저장할 디렉터리
+ * - interval : 스냅샷을 남기는 주기
+ * - retain : 보관할 스냅샷 파일 수 (최신 파일이 손상되었을 때 이전 파일로 복구하기 위함)
+ */
+@ConfigurationProperties(prefix = "point.snapshot")
+public record PointSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/point-snapshot") String directory,
+        @DefaultValue("5m") Duration interval,
+        @DefaultValue("2") int retain
+) {
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 저장소 설정
+ * - balance : 잔액 저장소 (table : UserPointTable, off-heap : 힙 밖의 primitive 해시 테이블)
+ * - offHeapInitialCapacity : off-heap 잔액 저장소의 초기 유저 수 (모자라면 자동으로 늘어난다)
+ * - history : 내역 저장소 (table : PointHistoryTable + 유저별 인덱스, mapped : 메모리 맵 파일 로그)
+ */
+@ConfigurationProperties(prefix = "point.storage")
+public record PointStorageProperties(
+        @DefaultValue("table") String balance,
+        @DefaultValue("65536") int offHeapInitialCapacity,
+        @DefaultValue("table") String history
+) {
+}
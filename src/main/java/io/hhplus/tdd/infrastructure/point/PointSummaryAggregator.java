@@ -0,0 +1,55 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 포인트 내역 집계
+ * - 내역이 저장될 때마다 해당 유저의 집계를 갱신하므로, 조회는 내역을 읽지 않고 바로 반환한다.
+ * - 시작할 때 저장소에 남아 있는 내역으로 집계를 다시 계산한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PointSummaryAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSummaryAggregator.class);
+
+    private final PointHistoryStore pointHistoryStore;
+
+    private final Map<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+
+    public void apply(long userId, long amount, TransactionType type, long updateMillis) {
+        summaries.compute(userId, (id, summary) ->
+                (summary == null ? PointSummary.empty(id) : summary).plus(amount, type, updateMillis));
+    }
+
+    public PointSummary get(long userId) {
+        PointSummary summary = summaries.get(userId);
+        return summary == null ? PointSummary.empty(userId) : summary;
+    }
+
+    /**
+     * 저장소의 모든 내역으로 집계를 다시 계산한다. (쓰기가 들어오기 전인 시작 시점에만 호출)
+     */
+    @PostConstruct
+    public void rebuild() {
+        summaries.clear();
+        pointHistoryStore.forEach(pointHistory -> {
+            // 압축된 집계 내역은 집계에 포함된 건수만큼 센다.
+            long count = pointHistory.bucket() == null ? 1L : pointHistory.bucket().count();
+            summaries.compute(pointHistory.userId(), (id, summary) -> (summary == null ? PointSummary.empty(id) : summary)
+                    .plus(pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis(), count));
+        });
+        if (!summaries.isEmpty()) {
+            log.info("rebuilt point summaries for {} users", summaries.size());
+        }
+    }
+}
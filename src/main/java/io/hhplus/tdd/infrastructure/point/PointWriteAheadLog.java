@@ -0,0 +1,308 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * 잔액/내역 변경 write-ahead log (point.wal.enabled=true)
+ * - 충전/사용 내역을 저장소에 반영하기 전에 로그 파일에 먼저 기록하고, 디스크에 쓰인 것을 확인한 뒤 반환한다.
+ * - 시작할 때 로그를 처음부터 다시 읽어 내역과 잔액을 복구하므로, 내역 저장과 잔액 저장 사이에 종료되어도 둘이 어긋나지 않는다.
+ *   (내역만 기록된 경우에도 잔액은 그때까지의 내역으로 계산된다)
+ * - 레코드는 고정 길이(32 바이트)로 기록한다. [userId(8) | amount(8) | updateMillis(8) | kind(4) | crc(4)]
+ *   kind 는 충전/사용이면 TransactionType 순서, 내역 없이 잔액만 바꾼 경우면 BALANCE(-1) 이다.
+ * - 로그에 기록한 뒤 저장소 반영에 실패한 내역은 ABORT(-2) 레코드를 남겨서(amount 에 취소할 레코드 번호) 복구할 때 건너뛴다.
+ * - group commit : 동시에 기록을 요청한 스레드들의 레코드를 버퍼에 모아서 한 번의 write + force 로 저장한다.
+ *   먼저 들어온 스레드가 그 시점까지 쌓인 레코드를 모두 저장하고, 나머지 스레드는 자신의 레코드가 저장된 것을 확인하고 바로 반환한다.
+ * - 잔액 저장이 로그로 계산한 잔액과 같으면 BALANCE 레코드를 남기지 않는다. 로그 기준 잔액은 최근에 기록한 유저만 max-tracked-users 까지 기억하고,
+ *   기억하지 않는 유저(처음 기록하거나 밀려난 유저)는 잔액을 저장할 때 BALANCE 레코드를 남겨서 다시 기준으로 삼는다.
+ * - 로그는 계속 커지므로 내역 저장소(PointHistoryTable)와 같은 만큼의 디스크를 사용한다.
+ * - PointHistoryTable 에는 여러 건을 한 번에 넣는 방법이 없어서, 복구할 때 내역 한 건마다 insert 지연(최대 300ms)이 생긴다.
+ *   내역이 많이 쌓이면 시작 시간이 그만큼 길어지므로, 운영에서는 로그를 주기적으로 정리해야 한다.
+ */
+@Component
+public class PointWriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteAheadLog.class);
+
+    static final int RECORD_SIZE = 32;
+    private static final int CRC_OFFSET = 28;
+    private static final int BALANCE = -1;
+    private static final int ABORT = -2;
+    private static final String FILE_NAME = "point.wal";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final boolean enabled;
+    private final FileChannel channel;
+
+    // appendLock : 버퍼에 레코드를 쌓을 때, flushLock : 쌓인 레코드를 파일에 쓰고 force 할 때
+    private final Lock appendLock = new ReentrantLock();
+    private final Lock flushLock = new ReentrantLock();
+    private final CRC32C appendCrc = new CRC32C();
+    private ByteBuffer pending = ByteBuffer.allocateDirect(RECORD_SIZE * 1024); // appendLock 을 잡은 상태에서만 사용
+    private ByteBuffer flushing = ByteBuffer.allocateDirect(RECORD_SIZE * 1024); // flushLock 을 잡은 상태에서만 사용
+    private long appendedSeq; // appendLock 을 잡은 상태에서만 변경
+    private volatile long durableSeq;
+    private volatile boolean failed;
+
+    // 로그 기준 유저별 잔액 (최근에 기록한 유저만, appendLock 을 잡은 상태에서만 사용)
+    // 없는 유저는 로그 기준 잔액을 모르는 것으로 보고, 잔액을 저장할 때 BALANCE 레코드를 남긴다.
+    private final Map<Long, Long> balances;
+
+    public PointWriteAheadLog(PointWriteAheadLogProperties properties,
+                              UserPointStore userPointStore,
+                              PointHistoryStore pointHistoryStore,
+                              PointSummaryAggregator pointSummaryAggregator) {
+        this.enabled = properties.enabled();
+        int maxTrackedUsers = properties.maxTrackedUsers();
+        this.balances = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxTrackedUsers;
+            }
+        };
+        if (!enabled) {
+            this.channel = null;
+            return;
+        }
+        if (pointHistoryStore instanceof MappedPointHistoryStore) {
+            throw new IllegalStateException("point.wal requires point.storage.history=table");
+        }
+        Path path = Path.of(properties.directory()).resolve(FILE_NAME);
+        this.channel = open(path);
+        replay(path, userPointStore, pointHistoryStore, pointSummaryAggregator);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 충전/사용 한 건을 기록하고, 디스크에 저장될 때까지 기다린다.
+     * @return 기록한 레코드 번호. 저장소 반영에 실패하면 이 번호로 abort 를 호출해야 한다.
+     */
+    public long appendHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        long seq;
+        appendLock.lock();
+        try {
+            seq = put(userId, amount, updateMillis, type.ordinal());
+            long delta = type == TransactionType.CHARGE ? amount : -amount;
+            balances.computeIfPresent(userId, (id, balance) -> balance + delta);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(seq);
+        return seq;
+    }
+
+    /**
+     * appendHistory 로 기록한 내역을 취소한다. 복구할 때 해당 레코드는 반영하지 않는다.
+     */
+    public void abort(long seq, long userId, long amount, TransactionType type) {
+        long abortSeq;
+        appendLock.lock();
+        try {
+            abortSeq = put(userId, seq, 0L, ABORT);
+            long delta = type == TransactionType.CHARGE ? amount : -amount;
+            balances.computeIfPresent(userId, (id, balance) -> balance - delta);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(abortSeq);
+    }
+
+    /**
+     * 잔액 저장을 기록한다. 로그로 계산한 잔액을 알고 있고 그 값과 같으면 기록하지 않는다.
+     */
+    public void appendBalance(long userId, long point) {
+        long seq;
+        appendLock.lock();
+        try {
+            Long logged = balances.get(userId);
+            if (logged != null && logged == point) {
+                return;
+            }
+            seq = put(userId, point, 0L, BALANCE);
+            balances.put(userId, point);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(seq);
+    }
+
+    // 마지막으로 디스크에 저장된 레코드 번호
+    public long durableSeq() {
+        return durableSeq;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("failed to close point write-ahead log", e);
+        }
+    }
+
+    private long put(long userId, long amount, long updateMillis, int kind) {
+        if (failed) {
+            throw new IllegalStateException("point write-ahead log failed to write. restart is required");
+        }
+        if (pending.remaining() < RECORD_SIZE) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(pending.capacity() * 2);
+            grown.put(pending.flip());
+            pending = grown;
+        }
+        int offset = pending.position();
+        pending.putLong(userId).putLong(amount).putLong(updateMillis).putInt(kind);
+        appendCrc.reset();
+        appendCrc.update(pending.slice(offset, CRC_OFFSET));
+        pending.putInt((int) appendCrc.getValue());
+        return ++appendedSeq;
+    }
+
+    // 레코드가 디스크에 저장될 때까지 기다린다. 아직 저장되지 않았으면 그때까지 쌓인 레코드를 모두 저장한다.
+    private void awaitDurable(long seq) {
+        if (durableSeq >= seq) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (durableSeq >= seq) {
+                return; // 앞선 스레드가 이 레코드까지 같이 저장했다.
+            }
+            if (failed) {
+                // 앞선 저장이 실패했으면 이 레코드도 그 묶음에 있었을 수 있다. 버퍼를 바꾸지 않고 그대로 실패시킨다.
+                throw new IllegalStateException("point write-ahead log failed to write. restart is required");
+            }
+            long targetSeq;
+            appendLock.lock();
+            try {
+                ByteBuffer swap = flushing;
+                flushing = pending;
+                pending = swap.clear();
+                targetSeq = appendedSeq;
+            } finally {
+                appendLock.unlock();
+            }
+            flushing.flip();
+            while (flushing.hasRemaining()) {
+                channel.write(flushing);
+            }
+            channel.force(false);
+            flushing.clear();
+            durableSeq = targetSeq;
+        } catch (IOException e) {
+            // 일부만 기록되었을 수 있으므로 durableSeq 는 그대로 두고 이후의 기록은 모두 거절한다.
+            // 파일에 더 쓰지 않으므로 온전하지 않은 레코드는 항상 끝에 남고, 재시작 시 잘라낸다.
+            failed = true;
+            throw new UncheckedIOException(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 로그를 처음부터 읽어서 내역과 잔액을 복구하고, 온전하지 않은 레코드부터는 잘라낸다.
+    // 취소된 내역을 건너뛰기 위해 먼저 온전한 범위와 ABORT 레코드를 찾고, 그다음 반영한다.
+    private void replay(Path path, UserPointStore userPointStore, PointHistoryStore pointHistoryStore,
+                        PointSummaryAggregator pointSummaryAggregator) {
+        try {
+            long size = channel.size();
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            CRC32C crc = new CRC32C();
+            Set<Long> aborted = new HashSet<>();
+            Map<Long, Long> restored = new HashMap<>();
+            long position = 0;
+            while (position + RECORD_SIZE <= size) {
+                readFully(record.clear(), position);
+                crc.reset();
+                crc.update(record.array(), 0, CRC_OFFSET);
+                int kind = record.getInt(24);
+                if (record.getInt(CRC_OFFSET) != (int) crc.getValue() || kind < ABORT || kind >= TYPES.length) {
+                    break;
+                }
+                if (kind == ABORT) {
+                    aborted.add(record.getLong(8));
+                }
+                position += RECORD_SIZE;
+            }
+            if (position < size) {
+                log.warn("point write-ahead log {} has a broken record at {}. it will be truncated", path, position);
+                channel.truncate(position);
+                channel.force(false);
+            }
+            channel.position(position);
+
+            long replayed = 0;
+            for (long offset = 0; offset < position; offset += RECORD_SIZE) {
+                readFully(record.clear(), offset);
+                int kind = record.getInt(24);
+                long seq = offset / RECORD_SIZE + 1;
+                if (kind == ABORT || aborted.contains(seq)) {
+                    continue;
+                }
+                long userId = record.getLong(0);
+                long amount = record.getLong(8);
+                if (kind == BALANCE) {
+                    restored.put(userId, amount);
+                } else {
+                    TransactionType type = TYPES[kind];
+                    long updateMillis = record.getLong(16);
+                    pointHistoryStore.insert(userId, amount, type, updateMillis);
+                    pointSummaryAggregator.apply(userId, amount, type, updateMillis);
+                    restored.merge(userId, type == TransactionType.CHARGE ? amount : -amount, Long::sum);
+                    replayed++;
+                }
+            }
+
+            for (Map.Entry<Long, Long> balance : restored.entrySet()) {
+                userPointStore.insertOrUpdate(balance.getKey(), balance.getValue());
+            }
+            balances.putAll(restored); // 복구한 잔액은 로그 기준 잔액과 같다. (max-tracked-users 를 넘는 만큼은 밀려난다)
+            appendedSeq = position / RECORD_SIZE;
+            durableSeq = appendedSeq;
+            log.info("point write-ahead log replayed. {} records, {} histories, {} aborted, {} users",
+                    appendedSeq, replayed, aborted.size(), restored.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of point write-ahead log");
+            }
+        }
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            Files.createDirectories(path.getParent());
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
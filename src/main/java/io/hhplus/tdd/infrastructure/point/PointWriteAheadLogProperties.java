@@ -0,0 +1,18 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액/내역 변경 write-ahead log 설정 (point.storage.history=table 일 때만 사용할 수 있다)
+ * - enabled : 충전/사용을 저장소에 반영하기 전에 로그에 먼저 기록할지 여부
+ * - directory : 로그 파일을 저장할 디렉터리
+ * - maxTrackedUsers : 로그 기준 잔액을 기억해 둘 최대 유저 수 (넘으면 가장 오래 기록하지 않은 유저부터 잊는다)
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record PointWriteAheadLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/point-wal") String directory,
+        @DefaultValue("10000") int maxTrackedUsers
+) {
+}
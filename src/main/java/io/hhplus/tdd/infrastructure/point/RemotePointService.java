@@ -0,0 +1,135 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.ConflictException;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.PointBinaryHttpMessageConverter;
+import io.hhplus.tdd.PointRequest;
+import io.hhplus.tdd.TooManyRequestsException;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.PointNode;
+import io.hhplus.tdd.domain.point.PointPartitionRouter;
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 다른 노드의 포인트 API 를 호출하는 포인트 서비스
+ * - 노드 사이의 요청/응답은 JSON 대신 바이너리 인코딩(application/x-point-binary)으로 주고받는다.
+ * - 담당 노드가 돌려준 400/409/429 응답은 같은 예외(BizException/ConflictException/TooManyRequestsException)로 바꿔서 던진다.
+ * - 멱등 키는 요청에 그대로 실어 보내고, 중복 여부는 담당 노드에서 확인한다.
+ */
+public class RemotePointService implements PointNode {
+
+    private static final ParameterizedTypeReference<List<PointHistory>> HISTORIES = new ParameterizedTypeReference<>() {
+    };
+
+    private final String nodeId;
+    private final RestClient restClient;
+
+    public RemotePointService(String localNodeId, String nodeId, RestClient.Builder restClientBuilder, String url) {
+        this.nodeId = nodeId;
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .defaultHeader(PointPartitionRouter.FORWARDED_HEADER, localNodeId)
+                .defaultHeader(HttpHeaders.ACCEPT, PointBinaryHttpMessageConverter.MEDIA_TYPE_VALUE)
+                .messageConverters(converters -> converters.add(0, new PointBinaryHttpMessageConverter()))
+                .build();
+    }
+
+    @Override
+    public UserPoint get(long id) {
+        return call(() -> restClient.get().uri("/point/{id}", id).retrieve().body(UserPoint.class));
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id) {
+        // 전체 내역은 최대 크기 페이지로 나눠서 모두 가져온다.
+        List<PointHistory> result = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<PointHistory> page = getHistory(id, new PointHistoryQuery(cursor, PointHistoryQuery.MAX_SIZE, null, null, null));
+            result.addAll(page);
+            if (page.size() < PointHistoryQuery.MAX_SIZE) {
+                return result;
+            }
+            cursor = page.get(page.size() - 1).id();
+        }
+    }
+
+    @Override
+    public List<PointHistory> getHistory(long id, PointHistoryQuery query) {
+        return call(() -> restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/point/{id}/histories")
+                        .queryParamIfPresent("cursor", Optional.ofNullable(query.cursor()))
+                        .queryParam("size", query.size())
+                        .queryParamIfPresent("from", Optional.ofNullable(query.fromMillis()))
+                        .queryParamIfPresent("to", Optional.ofNullable(query.toMillis()))
+                        .queryParamIfPresent("type", Optional.ofNullable(query.type()))
+                        .build(id))
+                .retrieve()
+                .body(HISTORIES));
+    }
+
+    @Override
+    public PointSummary getSummary(long id) {
+        return call(() -> restClient.get().uri("/point/{id}/summary", id).retrieve().body(PointSummary.class));
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, TransactionType transactionType) {
+        return charge(id, amount, (String) null);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, TransactionType transactionType) {
+        return use(id, amount, (String) null);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, String idempotencyKey) {
+        return patch("/point/{id}/charge", id, new PointRequest(amount, idempotencyKey));
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, String idempotencyKey) {
+        return patch("/point/{id}/use", id, new PointRequest(amount, idempotencyKey));
+    }
+
+    private UserPoint patch(String uri, long id, PointRequest request) {
+        return call(() -> restClient.patch()
+                .uri(uri, id)
+                .contentType(PointBinaryHttpMessageConverter.MEDIA_TYPE)
+                .body(request)
+                .retrieve()
+                .body(UserPoint.class));
+    }
+
+    private <T> T call(Supplier<T> request) {
+        try {
+            return request.get();
+        } catch (RestClientResponseException e) {
+            int status = e.getStatusCode().value();
+            if (status == 400 || status == 409 || status == 429) {
+                ErrorResponse error = e.getResponseBodyAs(ErrorResponse.class);
+                String message = error != null ? error.message() : e.getMessage();
+                throw switch (status) {
+                    case 409 -> new ConflictException(message);
+                    case 429 -> new TooManyRequestsException(message);
+                    default -> new BizException(message);
+                };
+            }
+            throw new IllegalStateException("point node " + nodeId + " responded " + status, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.PointNode;
+import io.hhplus.tdd.domain.point.PointNodeConnector;
+import io.hhplus.tdd.domain.point.ShardingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 다른 노드의 HTTP API 로 연결한다.
+ * - 담당 노드가 응답하지 않을 때 요청 스레드가 계속 묶여 있지 않도록 연결/응답 대기 시간을 제한한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class RestPointNodeConnector implements PointNodeConnector {
+
+    private final ShardingProperties properties;
+    private final RestClient.Builder restClientBuilder;
+
+    @Override
+    public PointNode connect(ShardingProperties.Node node) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(properties.connectTimeout())
+                .withReadTimeout(properties.readTimeout());
+        RestClient.Builder builder = restClientBuilder.clone().requestFactory(ClientHttpRequestFactories.get(settings));
+        return new RemotePointService(properties.nodeId(), node.id(), builder, node.url());
+    }
+}
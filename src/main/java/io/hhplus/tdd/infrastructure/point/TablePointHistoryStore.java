@@ -0,0 +1,47 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * PointHistoryTable 에 내역을 저장하는 기본 내역 저장소 (point.storage.history=table)
+ * - 조회는 테이블 전체를 훑지 않고 유저별 인덱스에서 처리한다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "point.storage", name = "history", havingValue = "table", matchIfMissing = true)
+public class TablePointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex pointHistoryIndex;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        pointHistoryIndex.append(pointHistory); // 유저별 인덱스에도 같이 쌓아둔다.
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointHistoryIndex.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectHistories(long userId, PointHistoryQuery query) {
+        return pointHistoryIndex.selectHistories(userId, query);
+    }
+
+    @Override
+    public void forEach(Consumer<PointHistory> consumer) {
+        pointHistoryIndex.forEach(consumer);
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.domain.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserPointTable 에 잔액을 저장하는 기본 잔액 저장소 (point.storage.balance=table)
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "point.storage", name = "balance", havingValue = "table", matchIfMissing = true)
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
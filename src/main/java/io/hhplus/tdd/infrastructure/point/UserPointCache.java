@@ -0,0 +1,183 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointTable 앞에 두는 write-through 잔액 캐시
+ * - 조회 결과는 캐시에 값이 없을 때만 채우고(fill), 저장 결과는 항상 덮어쓴다(put).
+ *   유저별 Lock 안에서 저장된 값이 뒤늦게 끝난 조회 결과로 덮어써지지 않도록 하기 위함이다.
+ * - 유저 id 로 나눈 segment 마다 Lock 과 LRU 를 따로 두어, 다른 유저의 조회끼리 하나의 Lock 을 기다리지 않는다.
+ *   최대 크기는 segment 별로 나눠서 지키므로, 가장 오래 사용되지 않은 유저는 segment 안에서 제거된다.
+ * - TTL 이 지나면 조회 시점에 제거한다.
+ * - 적중/실패/제거 횟수와 크기는 point.cache.* 지표로 내보낸다.
+ */
+@Component
+public class UserPointCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final Segment[] segments;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public UserPointCache(UserPointCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maximumSize = properties.maximumSize();
+        this.ttlNanos = properties.ttl().toNanos();
+
+        // segment 수는 2 의 거듭제곱으로, segment 하나가 너무 작아지지 않도록 최대 크기에 맞춰 정한다.
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+
+        FunctionCounter.builder("point.cache.gets", hitCount, LongAdder::sum)
+                .description("잔액 캐시 조회 수")
+                .tags("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("point.cache.gets", missCount, LongAdder::sum)
+                .description("잔액 캐시 조회 수")
+                .tags("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("point.cache.evictions", evictionCount, LongAdder::sum)
+                .description("잔액 캐시에서 제거된 유저 수 (최대 크기 초과, TTL 만료)")
+                .register(meterRegistry);
+        Gauge.builder("point.cache.size", this, UserPointCache::size)
+                .description("잔액 캐시에 보관중인 유저 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 잔액을 반환한다. 없거나 만료되었으면 null 을 반환한다.
+     */
+    public UserPoint get(long id) {
+        if (maximumSize <= 0) {
+            missCount.increment();
+            return null;
+        }
+        Segment segment = segmentOf(id);
+        segment.lock.lock();
+        try {
+            Entry entry = segment.entries.get(id);
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                segment.entries.remove(id);
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.userPoint();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장소에서 조회한 잔액으로 캐시를 채운다. 이미 값이 있으면 기존 값을 유지한다.
+     */
+    public void fill(UserPoint userPoint) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        Segment segment = segmentOf(userPoint.id());
+        segment.lock.lock();
+        try {
+            Entry entry = segment.entries.get(userPoint.id());
+            if (entry == null || entry.isExpired(System.nanoTime())) {
+                segment.entries.put(userPoint.id(), newEntry(userPoint));
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장소에 반영된 잔액으로 캐시를 갱신한다.
+     */
+    public void put(UserPoint userPoint) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        Segment segment = segmentOf(userPoint.id());
+        segment.lock.lock();
+        try {
+            segment.entries.put(userPoint.id(), newEntry(userPoint));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+    }
+
+    private int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long id) {
+        int hash = Long.hashCode(id);
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private Entry newEntry(UserPoint userPoint) {
+        return new Entry(userPoint, System.nanoTime() + ttlNanos);
+    }
+
+    // 접근 순서로 정렬된 LRU. lock 을 잡은 상태에서만 읽고 쓴다.
+    private final class Segment {
+        private final Lock lock = new ReentrantLock();
+        private final Map<Long, Entry> entries;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private record Entry(UserPoint userPoint, long expireAtNanos) {
+        boolean isExpired(long now) {
+            return now - expireAtNanos >= 0;
+        }
+    }
+
+    public record Stats(long hitCount, long missCount, long evictionCount, int size) {
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액 캐시 설정
+ * - maximumSize : 캐시에 보관할 최대 유저 수 (0 이면 캐시를 사용하지 않는다)
+ * - ttl : 캐시에 채워진 잔액의 유효 시간
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("10000") int maximumSize,
+        @DefaultValue("60s") Duration ttl
+) {
+}
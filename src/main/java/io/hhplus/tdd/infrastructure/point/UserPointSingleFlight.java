@@ -0,0 +1,101 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * 같은 유저의 잔액 조회를 하나의 저장소 호출로 합치는 single-flight
+ * - 동시에 들어온 조회는 이미 진행 중인 저장소 호출의 결과를 함께 받는다.
+ * - 단, 진행 중인 호출이 시작된 뒤에 끝난 쓰기가 있으면 그 호출에 합류하지 않고 새로 읽는다.
+ *   쓰기는 저장이 끝난 뒤 written() 으로 유저의 쓰기 번호(stamp)를 올리고, 조회는 시작할 때의 stamp 가 같은 호출에만 합류한다.
+ *   따라서 이미 끝난 쓰기보다 오래된 값을 돌려주지 않는다.
+ * - stamp 는 유저 id 의 해시로 나눈 고정 크기 배열에 두므로 유저 수와 관계없이 메모리가 일정하다.
+ *   (같은 칸을 쓰는 다른 유저의 쓰기는 합류 기회를 줄일 뿐 결과에는 영향이 없다)
+ */
+@Component
+public class UserPointSingleFlight {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray writeStamps = new AtomicLongArray(STRIPES);
+    private final Map<Long, Flight> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    public UserPoint load(long id, LongFunction<UserPoint> loader) {
+        long stamp = writeStamps.get(stripeOf(id));
+        Flight flight = flights.get(id);
+        if (flight == null || flight.stamp != stamp) {
+            Flight created = new Flight(stamp);
+            flight = flights.compute(id, (key, current) -> current != null && current.stamp == stamp ? current : created);
+            if (flight == created) {
+                return run(id, created, loader);
+            }
+        }
+        sharedCount.increment();
+        return await(flight.result);
+    }
+
+    /**
+     * 잔액 저장이 끝난 뒤에 호출한다. 이후의 조회는 그 전에 시작된 저장소 호출에 합류하지 않는다.
+     */
+    public void written(long id) {
+        writeStamps.incrementAndGet(stripeOf(id));
+    }
+
+    public Stats stats() {
+        return new Stats(loadCount.sum(), sharedCount.sum());
+    }
+
+    private UserPoint run(long id, Flight flight, LongFunction<UserPoint> loader) {
+        loadCount.increment();
+        try {
+            UserPoint userPoint = loader.apply(id);
+            flight.result.complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(id, flight);
+        }
+    }
+
+    private static int stripeOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 54); // 상위 10비트
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Flight {
+        private final long stamp;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Flight(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+
+    // loadCount : 실제 저장소 호출 수, sharedCount : 다른 호출의 결과를 함께 받은 조회 수
+    public record Stats(long loadCount, long sharedCount) {
+    }
+}
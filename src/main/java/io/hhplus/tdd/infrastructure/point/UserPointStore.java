@@ -0,0 +1,13 @@
+package io.hhplus.tdd.infrastructure.point;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+
+/**
+ * 유저 잔액 저장소
+ */
+public interface UserPointStore {
+
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
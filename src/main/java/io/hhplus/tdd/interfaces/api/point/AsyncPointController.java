@@ -0,0 +1,62 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.PointRequest;
+import io.hhplus.tdd.domain.point.AsyncPointService;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 포인트 API (point.async.enabled=true)
+ * - 응답은 CompletableFuture 로 돌려주므로 결과를 기다리는 동안 요청 스레드를 반환한다.
+ * - 담당 노드 전달과 멱등 키 처리는 동기 API(/point)와 같다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/async/point")
+@ConditionalOnProperty(prefix = "point.async", name = "enabled", havingValue = "true")
+public class AsyncPointController {
+
+    private final AsyncPointService asyncPointService;
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return asyncPointService.get(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + PointHistoryQuery.DEFAULT_SIZE) int size,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return asyncPointService.getHistory(id, new PointHistoryQuery(cursor, size, from, to, type));
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody PointRequest request
+    ) {
+        return asyncPointService.charge(id, request.amount(), request.idempotencyKey());
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody PointRequest request
+    ) {
+        return asyncPointService.use(id, request.amount(), request.idempotencyKey());
+    }
+}
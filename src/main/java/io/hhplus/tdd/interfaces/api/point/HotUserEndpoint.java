@@ -0,0 +1,23 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.domain.point.HotUserDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * hot user 감지 상태 조회 (GET /actuator/hotusers)
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hotusers")
+public class HotUserEndpoint {
+
+    private final HotUserDetector hotUserDetector;
+
+    @ReadOperation
+    public HotUserDetector.Status status() {
+        return hotUserDetector.status();
+    }
+}
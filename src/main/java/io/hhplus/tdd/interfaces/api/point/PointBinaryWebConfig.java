@@ -0,0 +1,21 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.PointBinaryHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 바이너리 변환기를 JSON 변환기 뒤에 등록한다.
+ * - 변환기 순서가 Accept 가 없거나 와일드카드일 때의 응답 형식이 되므로, JSON 이 기본 형식으로 유지된다.
+ */
+@Configuration
+public class PointBinaryWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PointBinaryHttpMessageConverter());
+    }
+}
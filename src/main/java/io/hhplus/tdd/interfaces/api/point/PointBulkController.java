@@ -0,0 +1,29 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.domain.point.PointBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point")
+public class PointBulkController {
+
+    private final PointBulkService pointBulkService;
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용한다.
+     * 항목마다 처리 결과를 요청 순서대로 돌려주며, 일부 항목이 실패해도 나머지 항목은 처리된다.
+     */
+    @PatchMapping("bulk")
+    public List<PointBulkResponse> bulk(
+            @RequestBody List<PointBulkRequest> requests
+    ) {
+        return pointBulkService.execute(requests.stream().map(PointBulkRequest::toCommand).toList())
+                .stream()
+                .map(PointBulkResponse::from)
+                .toList();
+    }
+}
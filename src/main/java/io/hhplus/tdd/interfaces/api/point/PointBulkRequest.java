@@ -0,0 +1,13 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.domain.point.PointCommand;
+
+public record PointBulkRequest(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+    public PointCommand toCommand() {
+        return new PointCommand(userId, amount, type);
+    }
+}
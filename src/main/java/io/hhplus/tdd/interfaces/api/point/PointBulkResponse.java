@@ -0,0 +1,43 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.ConflictException;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.TooManyRequestsException;
+import io.hhplus.tdd.domain.point.PointCommandResult;
+import io.hhplus.tdd.domain.point.UserPoint;
+
+/**
+ * 일괄 처리 결과 (요청 항목마다 하나씩)
+ * - 성공하면 userPoint 에 처리 후 잔액이, 실패하면 error 에 에러 코드와 메시지가 담긴다.
+ */
+public record PointBulkResponse(
+        long userId,
+        long amount,
+        TransactionType type,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+    public static PointBulkResponse from(PointCommandResult result) {
+        return new PointBulkResponse(
+                result.command().userId(),
+                result.command().amount(),
+                result.command().type(),
+                result.userPoint(),
+                result.isSuccess() ? null : toErrorResponse(result.error()));
+    }
+
+    // ApiControllerAdvice 와 같은 코드로 돌려준다.
+    private static ErrorResponse toErrorResponse(RuntimeException error) {
+        if (error instanceof ConflictException) {
+            return new ErrorResponse("409", error.getMessage());
+        }
+        if (error instanceof TooManyRequestsException) {
+            return new ErrorResponse("429", error.getMessage());
+        }
+        if (error instanceof BizException) {
+            return new ErrorResponse("400", error.getMessage());
+        }
+        return new ErrorResponse("500", "에러가 발생했습니다.");
+    }
+}
@@ -1,7 +1,17 @@
 package io.hhplus.tdd.interfaces.api.point;
 
+import io.hhplus.tdd.BizException;
+import io.hhplus.tdd.PointRequest;
 import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.PointIdempotencyCache;
+import io.hhplus.tdd.domain.point.PointMetrics;
+import io.hhplus.tdd.domain.point.PointMetrics.Operation;
+import io.hhplus.tdd.domain.point.PointMetrics.Outcome;
+import io.hhplus.tdd.domain.point.PointNode;
+import io.hhplus.tdd.domain.point.PointPartitionRouter;
 import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.PointSummary;
 import io.hhplus.tdd.domain.point.UserPoint;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -17,7 +27,9 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
-    private final PointService pointService;
+    private final PointPartitionRouter pointPartitionRouter; // 유저를 담당하는 노드의 서비스로 요청을 보낸다.
+    private final PointMetrics pointMetrics;
+    private final PointIdempotencyCache pointIdempotencyCache;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -26,7 +38,12 @@ public class PointController {
     public UserPoint point(
             @PathVariable long id
     ) {
-        return pointService.get(id);
+        long start = System.nanoTime();
+        try {
+            return succeeded(Operation.GET, start, pointPartitionRouter.serviceFor(id).get(id));
+        } catch (RuntimeException e) {
+            throw failed(Operation.GET, start, e);
+        }
     }
 
     /**
@@ -34,9 +51,35 @@ public class PointController {
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + PointHistoryQuery.DEFAULT_SIZE) int size,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        // 다음 페이지는 응답의 마지막 내역 id 를 cursor 로 넘겨서 조회한다.
+        long start = System.nanoTime();
+        try {
+            return succeeded(Operation.HISTORY, start, pointPartitionRouter.serviceFor(id).getHistory(id, new PointHistoryQuery(cursor, size, from, to, type)));
+        } catch (RuntimeException e) {
+            throw failed(Operation.HISTORY, start, e);
+        }
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/사용 합계와 건수를 조회한다. (내역을 읽지 않고 집계 값을 반환)
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
             @PathVariable long id
     ) {
-        return pointService.getHistory(id);
+        long start = System.nanoTime();
+        try {
+            return succeeded(Operation.SUMMARY, start, pointPartitionRouter.serviceFor(id).getSummary(id));
+        } catch (RuntimeException e) {
+            throw failed(Operation.SUMMARY, start, e);
+        }
     }
 
     /**
@@ -47,7 +90,12 @@ public class PointController {
             @PathVariable long id,
             @RequestBody PointRequest request
     ) {
-        return pointService.charge(id, request.amount(), TransactionType.CHARGE);
+        long start = System.nanoTime();
+        try {
+            return succeeded(Operation.CHARGE, start, update(id, request, TransactionType.CHARGE));
+        } catch (RuntimeException e) {
+            throw failed(Operation.CHARGE, start, e);
+        }
     }
 
     /**
@@ -58,6 +106,38 @@ public class PointController {
             @PathVariable long id,
             @RequestBody PointRequest request
     ) {
-        return pointService.use(id, request.amount(), TransactionType.USE);
+        long start = System.nanoTime();
+        try {
+            return succeeded(Operation.USE, start, update(id, request, TransactionType.USE));
+        } catch (RuntimeException e) {
+            throw failed(Operation.USE, start, e);
+        }
+    }
+
+    // 멱등 키는 유저를 담당하는 노드에서만 확인한다. 다른 노드가 담당하면 키를 함께 전달한다.
+    private UserPoint update(long id, PointRequest request, TransactionType transactionType) {
+        PointNode remoteNode = pointPartitionRouter.remoteFor(id);
+        if (remoteNode != null) {
+            return transactionType == TransactionType.CHARGE
+                    ? remoteNode.charge(id, request.amount(), request.idempotencyKey())
+                    : remoteNode.use(id, request.amount(), request.idempotencyKey());
+        }
+        PointService pointService = pointPartitionRouter.serviceFor(id);
+        return pointIdempotencyCache.execute(request.idempotencyKey(), id, request.amount(), transactionType,
+                () -> transactionType == TransactionType.CHARGE
+                        ? pointService.charge(id, request.amount(), transactionType)
+                        : pointService.use(id, request.amount(), transactionType));
+    }
+
+    // 처리 시간을 결과(성공/검증 실패/오류)별로 미리 등록된 Timer 에 기록한다.
+    private <T> T succeeded(Operation operation, long start, T result) {
+        pointMetrics.recordRequest(operation, Outcome.SUCCESS, System.nanoTime() - start);
+        return result;
+    }
+
+    private RuntimeException failed(Operation operation, long start, RuntimeException e) {
+        Outcome outcome = e instanceof BizException ? Outcome.REJECTED : Outcome.ERROR;
+        pointMetrics.recordRequest(operation, outcome, System.nanoTime() - start);
+        return e;
     }
 }
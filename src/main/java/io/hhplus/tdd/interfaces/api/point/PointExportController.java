@@ -0,0 +1,172 @@
+package io.hhplus.tdd.interfaces.api.point;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point")
+public class PointExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExportController.class);
+
+    // 이 건수마다 응답을 flush 해서 chunk 로 내려보내고, 클라이언트 연결이 끊겼으면 바로 중단한다.
+    private static final int FLUSH_INTERVAL = 256;
+    // 내보내기는 요청 스레드를 놓아준 뒤 비동기로 쓴다. 큰 내보내기가 끊기지 않도록 이 API 에만 긴 제한 시간을 둔다.
+    private static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(10);
+
+    private final PointHistoryExportService pointHistoryExportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 유저의 포인트 내역을 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다.
+     * 제한 시간이 지나면 마지막 줄에 에러를 남기고 중단한다.
+     */
+    @GetMapping(value = "histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportAll(HttpServletResponse response) {
+        return stream(response, pointHistoryExportService::exportAll);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역을 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다.
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> export(
+            @PathVariable long id,
+            HttpServletResponse response
+    ) {
+        return stream(response, consumer -> pointHistoryExportService.export(id, consumer));
+    }
+
+    private WebAsyncTask<Void> stream(HttpServletResponse response, Consumer<Consumer<PointHistory>> export) {
+        ExportStream exportStream = new ExportStream(response);
+        WebAsyncTask<Void> task = new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            exportStream.write(export);
+            return null;
+        });
+        task.onTimeout(() -> {
+            exportStream.timeout();
+            return null;
+        });
+        task.onCompletion(exportStream::stop);
+        return task;
+    }
+
+    /**
+     * 내보내기 응답 하나
+     * - 내역은 비동기 스레드가 쓰고, 제한 시간이 지나면 컨테이너 스레드가 응답을 닫기 전에 timeout 을 호출한다.
+     *   둘은 lock 으로 번갈아 쓰므로, 제한 시간이 지난 뒤에는 내역을 더 쓰지 않고 마지막 줄에 에러(ErrorResponse)를 남긴다.
+     *   클라이언트는 마지막 줄이 에러이면 내보내기가 중간에 끊긴 것으로 판단한다.
+     */
+    private final class ExportStream {
+
+        private final HttpServletResponse response;
+        private final Lock lock = new ReentrantLock();
+        private JsonGenerator generator; // lock 을 잡은 상태에서만 사용
+        private boolean stopped; // lock 을 잡은 상태에서만 사용
+        private int written; // lock 을 잡은 상태에서만 사용
+
+        private ExportStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        void write(Consumer<Consumer<PointHistory>> export) throws IOException {
+            lock.lock();
+            try {
+                if (stopped) {
+                    return;
+                }
+                open();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                export.accept(this::writeRow);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (CancellationException e) {
+                return; // 제한 시간이 지나서 응답이 이미 닫혔다.
+            }
+            lock.lock();
+            try {
+                if (!stopped) {
+                    stopped = true;
+                    generator.close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void timeout() {
+            lock.lock();
+            try {
+                if (stopped) {
+                    return;
+                }
+                stopped = true;
+                if (generator == null) {
+                    open();
+                }
+                generator.writeObject(new ErrorResponse("503", "내보내기 제한 시간이 지나서 중단했습니다."));
+                generator.writeRaw('\n');
+                generator.close();
+            } catch (IOException e) {
+                log.warn("failed to write the point export timeout line", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            lock.lock();
+            try {
+                stopped = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void open() throws IOException {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+            generator.setRootValueSeparator(null); // 내역 사이에는 줄바꿈만 넣는다.
+        }
+
+        private void writeRow(PointHistory pointHistory) {
+            lock.lock();
+            try {
+                if (stopped) {
+                    throw new CancellationException("point export stopped");
+                }
+                generator.writeObject(pointHistory);
+                generator.writeRaw('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package io.hhplus.tdd.interfaces.api.point;
-
-public record PointRequest(
-        long amount
-) {
-}
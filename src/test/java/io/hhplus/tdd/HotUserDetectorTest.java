@@ -0,0 +1,131 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.HotUserDetector;
+import io.hhplus.tdd.domain.point.HotUserProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HotUserDetectorTest {
+
+    private final WorkerThreads workerThreads = new WorkerThreads(new StandardEnvironment());
+
+    @Test
+    void 대기열이_임계치를_넘은_유저만_hot_user_가_된다() {
+        //given
+        HotUserDetector hotUserDetector = new HotUserDetector(
+                new HotUserProperties(true, 5, Duration.ofSeconds(1), Duration.ofMinutes(1), 1, 10, 10), workerThreads);
+
+        //when
+        hotUserDetector.observe(1L, 5, 0L);
+        hotUserDetector.observe(2L, 4, 0L);
+        hotUserDetector.observe(3L, 1, Duration.ofSeconds(2).toNanos());
+
+        //then
+        assertThat(hotUserDetector.isHot(1L)).isTrue();
+        assertThat(hotUserDetector.isHot(2L)).isFalse();
+        assertThat(hotUserDetector.isHot(3L)).isTrue();
+        assertThat(hotUserDetector.status().users()).hasSize(2);
+    }
+
+    @Test
+    void cooldown_이_지나면_hot_user_에서_제외된다() throws InterruptedException {
+        //given
+        HotUserDetector hotUserDetector = new HotUserDetector(
+                new HotUserProperties(true, 1, Duration.ofSeconds(1), Duration.ofMillis(50), 1, 10, 10), workerThreads);
+        hotUserDetector.observe(1L, 1, 0L);
+
+        //when
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        //then
+        assertThat(hotUserDetector.isHot(1L)).isFalse();
+        assertThat(hotUserDetector.status().users()).isEmpty();
+    }
+
+    /**
+     * 전용 스레드(1개)와 대기열(1개)이 모두 차 있으면 요청을 기다리지 않고 바로 거절한다.
+     */
+    @Test
+    void 전용_대기열이_가득_차면_요청을_거절한다() throws InterruptedException {
+        //given
+        HotUserDetector hotUserDetector = new HotUserDetector(
+                new HotUserProperties(true, 1, Duration.ofSeconds(1), Duration.ofMinutes(1), 1, 1, 10), workerThreads);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread running = new Thread(() -> hotUserDetector.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 1L;
+        }));
+        running.start();
+        started.await();
+        Thread queued = new Thread(() -> hotUserDetector.execute(1L, () -> 2L));
+        queued.start();
+        while (hotUserDetector.status().queuedRequests() < 1) {
+            Thread.onSpinWait();
+        }
+
+        //when, then
+        assertThatThrownBy(() -> hotUserDetector.execute(1L, () -> 3L))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(hotUserDetector.status().users().get(0).shedCount()).isEqualTo(1L);
+
+        release.countDown();
+        running.join();
+        queued.join();
+        hotUserDetector.shutdown();
+    }
+
+    /**
+     * 한 유저가 처리 중인 요청 수가 제한에 이르면, 대기열에 자리가 있어도 그 유저의 요청만 거절한다.
+     */
+    @Test
+    void 유저별_처리_중인_요청이_제한에_이르면_그_유저의_요청만_거절한다() throws InterruptedException {
+        //given
+        HotUserDetector hotUserDetector = new HotUserDetector(
+                new HotUserProperties(true, 1, Duration.ofSeconds(1), Duration.ofMinutes(1), 1, 10, 1), workerThreads);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread running = new Thread(() -> hotUserDetector.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 1L;
+        }));
+        running.start();
+        started.await();
+
+        //when, then
+        assertThatThrownBy(() -> hotUserDetector.execute(1L, () -> 2L))
+                .isInstanceOf(TooManyRequestsException.class);
+        Thread other = new Thread(() -> assertThat(hotUserDetector.execute(2L, () -> 3L)).isEqualTo(3L));
+        other.start();
+        while (hotUserDetector.status().queuedRequests() < 1) {
+            Thread.onSpinWait();
+        }
+        assertThat(hotUserDetector.status().users())
+                .filteredOn(user -> user.userId() == 1L)
+                .extracting(HotUserDetector.HotUserStatus::shedCount)
+                .containsExactly(1L);
+
+        release.countDown();
+        running.join();
+        other.join();
+        hotUserDetector.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
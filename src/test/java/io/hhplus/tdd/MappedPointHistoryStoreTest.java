@@ -0,0 +1,112 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryProperties;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryStore;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class MappedPointHistoryStoreTest {
+
+    private static final int RECORD_SIZE = 40;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 저장한_내역을_유저별로_조회한다() {
+        //given
+        MappedPointHistoryStore store = open(DataSize.ofKilobytes(4));
+        store.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        store.insert(2L, 200L, TransactionType.CHARGE, 2000L);
+        store.insert(1L, 50L, TransactionType.USE, 3000L);
+
+        //when
+        List<PointHistory> result = store.selectAllByUserId(1L);
+
+        //then
+        assertThat(result).extracting(PointHistory::id).containsExactly(1L, 3L);
+        assertThat(result).extracting(PointHistory::type).containsExactly(TransactionType.CHARGE, TransactionType.USE);
+    }
+
+    @Test
+    void 세그먼트가_가득_차면_다음_세그먼트에_기록한다() throws IOException {
+        //given
+        MappedPointHistoryStore store = open(DataSize.ofBytes(RECORD_SIZE * 2));
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            store.insert(1L, 10L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        //then
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(store.selectHistories(1L, new PointHistoryQuery(2L, 2, null, null, null)))
+                .extracting(PointHistory::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 다시_열면_세그먼트를_읽어서_내역을_복구한다() {
+        //given
+        MappedPointHistoryStore store = open(DataSize.ofBytes(RECORD_SIZE * 2));
+        for (int i = 0; i < 5; i++) {
+            store.insert(i % 2, 10L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        store.close();
+
+        //when
+        MappedPointHistoryStore reopened = open(DataSize.ofBytes(RECORD_SIZE * 2));
+        PointHistory next = reopened.insert(1L, 20L, TransactionType.USE, System.currentTimeMillis());
+
+        //then
+        assertThat(reopened.selectAllByUserId(0L)).extracting(PointHistory::id).containsExactly(1L, 3L, 5L);
+        assertThat(next.id()).isEqualTo(6L);
+    }
+
+    @Test
+    void 일부만_기록된_마지막_레코드는_버리고_복구한다() throws IOException {
+        //given
+        MappedPointHistoryStore store = open(DataSize.ofKilobytes(4));
+        store.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        store.insert(1L, 200L, TransactionType.CHARGE, 2000L);
+        store.close();
+        corrupt(segmentFiles().get(0), RECORD_SIZE + 16); // 두 번째 레코드의 amount 를 깨뜨린다.
+
+        //when
+        MappedPointHistoryStore reopened = open(DataSize.ofKilobytes(4));
+
+        //then
+        assertThat(reopened.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(100L);
+        assertThat(reopened.lastId()).isEqualTo(1L);
+    }
+
+    private MappedPointHistoryStore open(DataSize segmentSize) {
+        return new MappedPointHistoryStore(new MappedPointHistoryProperties(directory.toString(), segmentSize, false));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private void corrupt(Path path, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), offset);
+        }
+    }
+}
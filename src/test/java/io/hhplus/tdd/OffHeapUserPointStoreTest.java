@@ -0,0 +1,52 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.infrastructure.point.OffHeapUserPointStore;
+import io.hhplus.tdd.infrastructure.point.PointStorageProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class OffHeapUserPointStoreTest {
+
+    private final OffHeapUserPointStore userPointStore = new OffHeapUserPointStore(new PointStorageProperties("off-heap", 16, "table"));
+
+    @Test
+    void 저장한_잔액을_조회한다() {
+        //given
+        userPointStore.insertOrUpdate(1L, 100L);
+        userPointStore.insertOrUpdate(1L, 300L);
+
+        //when
+        UserPoint result = userPointStore.selectById(1L);
+
+        //then
+        assertThat(result.point()).isEqualTo(300L);
+        assertThat(userPointStore.size()).isEqualTo(1L);
+    }
+
+    @Test
+    void 저장되지_않은_유저는_0_포인트로_조회된다() {
+        //when
+        UserPoint result = userPointStore.selectById(99L);
+
+        //then
+        assertThat(result.id()).isEqualTo(99L);
+        assertThat(result.point()).isZero();
+    }
+
+    @Test
+    void 초기_용량보다_많은_유저를_저장해도_모두_조회된다() {
+        //given
+        int userCount = 100_000;
+        for (long id = 1L; id <= userCount; id++) {
+            userPointStore.insertOrUpdate(id, id % UserPoint.MAX_POINTS);
+        }
+
+        //then
+        assertThat(userPointStore.size()).isEqualTo(userCount);
+        for (long id = 1L; id <= userCount; id++) {
+            assertThat(userPointStore.selectById(id).point()).isEqualTo(id % UserPoint.MAX_POINTS);
+        }
+    }
+}
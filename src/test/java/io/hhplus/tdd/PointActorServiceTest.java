@@ -0,0 +1,115 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.ActorPointService;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "point.write-mode=actor")
+public class PointActorServiceTest {
+
+    @Autowired
+    private PointService pointService;
+
+    private final int THREAD_COUNT = 16; // 동시에 실행할 스레드 개수
+
+    @Test
+    void actor_모드에서는_actor_서비스가_사용된다() {
+        assertThat(pointService).isInstanceOf(ActorPointService.class);
+    }
+
+    @Test
+    void 같은_유저의_명령은_들어온_순서대로_처리된다() {
+        //given
+        ActorPointService actorPointService = (ActorPointService) pointService;
+        long userId = 1001L;
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            futures.add(actorPointService.submit(userId, 100L, TransactionType.CHARGE));
+        }
+        futures.add(actorPointService.submit(userId, 0L, null)); // 조회
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertThat(futures.get(i).join().point()).isEqualTo((i + 1) * 100L);
+        }
+        assertThat(futures.get(10).join().point()).isEqualTo(1000L);
+    }
+
+    /**
+     * 여러 스레드가 여러 유저에게 충전/사용을 무작위로 보내도, 성공한 명령만큼 정확히 잔액과 내역에 반영되는지 확인한다.
+     * 모든 명령이 끝나면 mailbox 는 모두 제거된다.
+     */
+    @Test
+    void 동시에_충전과_사용을_반복해도_잔액이_유실되지_않는다() throws InterruptedException {
+        //given
+        int userCount = 16;
+        int commandsPerThread = 30;
+        long firstUserId = 1100L;
+        AtomicLongArray expected = new AtomicLongArray(userCount);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < commandsPerThread; j++) {
+                        int user = random.nextInt(userCount);
+                        long amount = random.nextLong(1L, 500L);
+                        try {
+                            if (random.nextBoolean()) {
+                                pointService.charge(firstUserId + user, amount, TransactionType.CHARGE);
+                                expected.addAndGet(user, amount);
+                            } else {
+                                pointService.use(firstUserId + user, amount, TransactionType.USE);
+                                expected.addAndGet(user, -amount);
+                            }
+                        } catch (BizException e) {
+                            // 잔액 부족/최대 포인트 초과로 거절된 명령은 반영되지 않는다.
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        //then
+        for (int user = 0; user < userCount; user++) {
+            long userId = firstUserId + user;
+            long historyBalance = pointService.getHistory(userId).stream()
+                    .mapToLong(history -> history.type() == TransactionType.CHARGE ? history.amount() : -history.amount())
+                    .sum();
+            assertThat(pointService.get(userId).point()).isEqualTo(expected.get(user));
+            assertThat(historyBalance).isEqualTo(expected.get(user));
+        }
+        // 결과를 돌려준 직후에 mailbox 가 제거되므로 잠시 기다린다.
+        ActorPointService actorPointService = (ActorPointService) pointService;
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (actorPointService.activeMailboxes() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(actorPointService.activeMailboxes()).isZero();
+    }
+}
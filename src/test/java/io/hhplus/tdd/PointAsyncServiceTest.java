@@ -0,0 +1,143 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.AsyncPointService;
+import io.hhplus.tdd.domain.point.PointPartitionRouter;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.PointController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"point.async.enabled=true", "point.async.threads=8"})
+public class PointAsyncServiceTest {
+
+    @Autowired
+    private AsyncPointService asyncPointService;
+
+    @Autowired
+    private PointController pointController;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointPartitionRouter pointPartitionRouter;
+
+    /**
+     * 한 스레드가 요청을 모두 보내고 결과는 나중에 모아서 기다린다. (요청마다 스레드를 붙잡지 않음)
+     */
+    @Test
+    void 같은_유저에_대한_비동기_충전이_순서대로_모두_반영된다() {
+        //given
+        long userId = 801L;
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            futures.add(asyncPointService.charge(userId, 100L, null));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        //then
+        assertThat(futures).extracting(future -> future.join().point())
+                .containsExactly(100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L, 1000L,
+                        1100L, 1200L, 1300L, 1400L, 1500L, 1600L, 1700L, 1800L, 1900L, 2000L);
+        assertThat(asyncPointService.get(userId).join().point()).isEqualTo(2000L);
+    }
+
+    @Test
+    void 여러_유저의_요청을_적은_스레드로_동시에_처리한다() {
+        //given
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        for (long userId = 810L; userId < 910L; userId++) {
+            futures.add(asyncPointService.charge(userId, 10L, null));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        //then
+        assertThat(futures).allMatch(future -> future.join().point() == 10L);
+    }
+
+    @Test
+    void 검증에_실패하면_BizException_으로_완료된다() {
+        //when
+        CompletableFuture<UserPoint> result = asyncPointService.use(901L, 100L, null);
+
+        //then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BizException.class);
+    }
+
+    /**
+     * 비동기 API 의 쓰기도 설정된 PointService 를 거치므로, 두 API 로 동시에 충전해도 모든 충전이 반영된다.
+     */
+    @Test
+    void 동기_API_와_비동기_API_로_동시에_충전해도_모두_반영된다() throws InterruptedException {
+        //given
+        long userId = 902L;
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointController.charge(userId, new PointRequest(100L));
+                } finally {
+                    latch.countDown();
+                }
+            });
+            futures.add(asyncPointService.charge(userId, 100L, null));
+        }
+        latch.await();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executorService.shutdown();
+
+        //then
+        assertThat(asyncPointService.get(userId).join().point()).isEqualTo(2000L);
+        assertThat(pointController.point(userId).point()).isEqualTo(2000L);
+    }
+
+    @Test
+    void 비동기_API_를_켜도_동기_API_는_설정된_포인트_서비스를_그대로_사용한다() {
+        //when
+        PointService routed = pointPartitionRouter.serviceFor(903L);
+
+        //then
+        assertThat(routed).isSameAs(pointService);
+    }
+
+    @Test
+    void 같은_멱등_키로_동기_API_와_비동기_API_에_요청해도_한_번만_처리된다() {
+        //given
+        long userId = 904L;
+        String idempotencyKey = "async-charge-904";
+
+        //when
+        UserPoint first = asyncPointService.charge(userId, 100L, idempotencyKey).join();
+        UserPoint second = pointController.charge(userId, new PointRequest(100L, idempotencyKey));
+        UserPoint third = asyncPointService.charge(userId, 100L, idempotencyKey).join();
+
+        //then
+        assertThat(first.point()).isEqualTo(100L);
+        assertThat(second).isEqualTo(first);
+        assertThat(third).isEqualTo(first);
+        assertThat(pointController.point(userId).point()).isEqualTo(100L);
+    }
+}
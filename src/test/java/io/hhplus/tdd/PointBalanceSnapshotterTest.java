@@ -0,0 +1,149 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryProperties;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.OffHeapUserPointStore;
+import io.hhplus.tdd.infrastructure.point.PointBalanceSnapshotter;
+import io.hhplus.tdd.infrastructure.point.PointSnapshotProperties;
+import io.hhplus.tdd.infrastructure.point.PointStorageProperties;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointBalanceSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    private final WorkerThreads workerThreads = new WorkerThreads(new StandardEnvironment());
+
+    @Test
+    void 스냅샷_이후의_내역만_다시_적용해서_잔액을_복구한다() {
+        //given
+        MappedPointHistoryStore historyStore = openHistory();
+        historyStore.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        historyStore.insert(2L, 300L, TransactionType.CHARGE, 2000L);
+        PointBalanceSnapshotter snapshotter = openSnapshotter(historyStore, newBalanceStore());
+        assertThat(snapshotter.snapshot()).isEqualTo(2L);
+        snapshotter.close();
+
+        historyStore.insert(1L, 40L, TransactionType.USE, 3000L);
+        historyStore.close();
+
+        //when
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointBalanceSnapshotter restored = openSnapshotter(openHistory(), balanceStore);
+
+        //then
+        assertThat(restored.lastRestore()).isEqualTo(new PointBalanceSnapshotter.RestoreResult(2L, 1L, 2));
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(60L);
+        assertThat(balanceStore.selectById(2L).point()).isEqualTo(300L);
+    }
+
+    /**
+     * 새 스냅샷은 직전 스냅샷에 그 이후 내역의 변화량을 더해서 만든다. (처음 기록된 유저는 새로 추가된다)
+     */
+    @Test
+    void 직전_스냅샷에_이후의_내역을_더해서_새_스냅샷을_만든다() {
+        //given
+        MappedPointHistoryStore historyStore = openHistory();
+        historyStore.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        historyStore.insert(2L, 300L, TransactionType.CHARGE, 2000L);
+        PointBalanceSnapshotter snapshotter = openSnapshotter(historyStore, newBalanceStore());
+        snapshotter.snapshot();
+
+        //when
+        historyStore.insert(1L, 40L, TransactionType.USE, 3000L);
+        historyStore.insert(3L, 50L, TransactionType.CHARGE, 4000L);
+        long historyId = snapshotter.snapshot();
+        historyStore.close();
+
+        //then
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointBalanceSnapshotter restored = openSnapshotter(openHistory(), balanceStore);
+        assertThat(historyId).isEqualTo(4L);
+        assertThat(restored.lastRestore()).isEqualTo(new PointBalanceSnapshotter.RestoreResult(4L, 0L, 3));
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(60L);
+        assertThat(balanceStore.selectById(2L).point()).isEqualTo(300L);
+        assertThat(balanceStore.selectById(3L).point()).isEqualTo(50L);
+    }
+
+    @Test
+    void 스냅샷이_손상되었으면_전체_내역을_다시_적용한다() throws IOException {
+        //given
+        MappedPointHistoryStore historyStore = openHistory();
+        historyStore.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        historyStore.insert(1L, 30L, TransactionType.USE, 2000L);
+        PointBalanceSnapshotter snapshotter = openSnapshotter(historyStore, newBalanceStore());
+        snapshotter.snapshot();
+        historyStore.close();
+
+        corrupt(snapshotFiles().get(0), 20);
+
+        //when
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointBalanceSnapshotter restored = openSnapshotter(openHistory(), balanceStore);
+
+        //then
+        assertThat(restored.lastRestore()).isEqualTo(new PointBalanceSnapshotter.RestoreResult(0L, 2L, 1));
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(70L);
+    }
+
+    @Test
+    void 오래된_스냅샷은_보관_개수만큼만_남긴다() throws IOException {
+        //given
+        MappedPointHistoryStore historyStore = openHistory();
+        PointBalanceSnapshotter snapshotter = openSnapshotter(historyStore, newBalanceStore());
+
+        //when
+        for (int i = 1; i <= 4; i++) {
+            historyStore.insert(1L, 10L, TransactionType.CHARGE, i);
+            snapshotter.snapshot();
+        }
+
+        //then
+        assertThat(snapshotFiles()).extracting(path -> path.getFileName().toString())
+                .containsExactly("snapshot-00000000000000000003.bin", "snapshot-00000000000000000004.bin");
+    }
+
+    private MappedPointHistoryStore openHistory() {
+        return new MappedPointHistoryStore(new MappedPointHistoryProperties(
+                directory.resolve("history").toString(), DataSize.ofKilobytes(4), false));
+    }
+
+    private OffHeapUserPointStore newBalanceStore() {
+        return new OffHeapUserPointStore(new PointStorageProperties("off-heap", 16, "mapped"));
+    }
+
+    private PointBalanceSnapshotter openSnapshotter(MappedPointHistoryStore historyStore, OffHeapUserPointStore balanceStore) {
+        PointSnapshotProperties properties = new PointSnapshotProperties(
+                true, directory.resolve("snapshot").toString(), Duration.ofHours(1), 2);
+        return new PointBalanceSnapshotter(properties, historyStore, balanceStore, workerThreads);
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("snapshot"))) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static void corrupt(Path path, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), offset);
+        }
+    }
+}
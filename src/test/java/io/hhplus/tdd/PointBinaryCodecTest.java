@@ -0,0 +1,83 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointBinaryCodecTest {
+
+    @Test
+    void 잔액과_내역을_고정_길이로_인코딩하고_그대로_디코딩한다() {
+        //given
+        UserPoint userPoint = new UserPoint(1L, 1_000L, 1234L);
+        List<PointHistory> pointHistories = List.of(
+                new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 1000L),
+                new PointHistory(2L, 1L, 300L, TransactionType.USE, 2000L),
+                new PointHistory(5L, 1L, 900L, TransactionType.CHARGE, 0L,
+                        new PointHistory.Bucket(PointHistory.Granularity.DAY, 3L, 2L)));
+        PointSummary summary = new PointSummary(1L, 1_000L, 300L, 1L, 1L, 1000L, 2000L);
+
+        //when
+        byte[] encodedUserPoint = PointBinaryCodec.encodeUserPoint(userPoint);
+        byte[] encodedHistories = PointBinaryCodec.encodeHistories(pointHistories);
+        byte[] encodedSummary = PointBinaryCodec.encodeSummary(summary);
+
+        //then
+        assertThat(encodedUserPoint).hasSize(PointBinaryCodec.USER_POINT_SIZE);
+        assertThat(encodedHistories).hasSize(4 + 3 * PointBinaryCodec.HISTORY_SIZE);
+        assertThat(PointBinaryCodec.decodeUserPoint(encodedUserPoint)).isEqualTo(userPoint);
+        assertThat(PointBinaryCodec.decodeHistories(encodedHistories)).isEqualTo(pointHistories);
+        assertThat(PointBinaryCodec.decodeSummary(encodedSummary)).isEqualTo(summary);
+    }
+
+    @Test
+    void 멱등_키가_있거나_없는_요청을_디코딩한다() {
+        //given
+        PointRequest withKey = new PointRequest(500L, "주문-1");
+        PointRequest withoutKey = new PointRequest(500L);
+
+        //when, then
+        assertThat(PointBinaryCodec.decodeRequest(PointBinaryCodec.encodeRequest(withKey))).isEqualTo(withKey);
+        assertThat(PointBinaryCodec.decodeRequest(PointBinaryCodec.encodeRequest(withoutKey))).isEqualTo(withoutKey);
+        assertThat(PointBinaryCodec.decodeError(PointBinaryCodec.encodeError(new ErrorResponse("400", "잔액이 부족합니다."))))
+                .isEqualTo(new ErrorResponse("400", "잔액이 부족합니다."));
+    }
+
+    @Test
+    void 길이가_맞지_않는_메시지는_디코딩하지_않는다() {
+        //given
+        byte[] encodedHistories = PointBinaryCodec.encodeHistories(List.of(
+                new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 1000L)));
+
+        //when, then
+        assertThatThrownBy(() -> PointBinaryCodec.decodeHistories(Arrays.copyOf(encodedHistories, encodedHistories.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PointBinaryCodec.decodeUserPoint(new byte[10]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 변환기는_포인트_API_타입만_바이너리로_변환한다() {
+        //given
+        PointBinaryHttpMessageConverter converter = new PointBinaryHttpMessageConverter();
+        MediaType binary = PointBinaryHttpMessageConverter.MEDIA_TYPE;
+
+        //when, then
+        assertThat(converter.canWrite(UserPoint.class, UserPoint.class, binary)).isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<PointHistory>>() {
+        }.getType(), List.class, binary)).isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<String>>() {
+        }.getType(), List.class, binary)).isFalse();
+        assertThat(converter.canWrite(UserPoint.class, UserPoint.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(PointRequest.class, null, binary)).isTrue();
+    }
+}
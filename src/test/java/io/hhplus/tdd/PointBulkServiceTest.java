@@ -0,0 +1,107 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointBulkService;
+import io.hhplus.tdd.domain.point.PointCommand;
+import io.hhplus.tdd.domain.point.PointCommandResult;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.interfaces.api.point.PointBulkResponse;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+public class PointBulkServiceTest {
+
+    @Autowired
+    private PointBulkService pointBulkService;
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    void 같은_유저의_명령은_요청_순서대로_처리된다() {
+        //given
+        long userId = 501L;
+        List<PointCommand> commands = List.of(
+                new PointCommand(userId, 100L, TransactionType.CHARGE),
+                new PointCommand(userId, 70L, TransactionType.USE),
+                new PointCommand(userId, 50L, TransactionType.USE), // 잔액 부족으로 실패
+                new PointCommand(userId, 20L, TransactionType.CHARGE)
+        );
+
+        //when
+        List<PointCommandResult> results = pointBulkService.execute(commands);
+
+        //then
+        assertThat(results).extracting(PointCommandResult::command).containsExactlyElementsOf(commands);
+        assertThat(results.get(0).userPoint().point()).isEqualTo(100L);
+        assertThat(results.get(1).userPoint().point()).isEqualTo(30L);
+        assertThat(results.get(2).error()).isInstanceOf(BizException.class);
+        assertThat(results.get(3).userPoint().point()).isEqualTo(50L);
+        assertThat(pointService.get(userId).point()).isEqualTo(50L);
+    }
+
+    @Test
+    void 여러_유저의_명령을_한_번에_처리한다() {
+        //given
+        List<PointCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            for (long userId = 510L; userId < 520L; userId++) {
+                commands.add(new PointCommand(userId, 10L, TransactionType.CHARGE));
+            }
+        }
+
+        //when
+        List<PointCommandResult> results = pointBulkService.execute(commands);
+
+        //then
+        assertThat(results).allMatch(PointCommandResult::isSuccess);
+        for (long userId = 510L; userId < 520L; userId++) {
+            assertThat(pointService.get(userId).point()).isEqualTo(50L);
+            assertThat(pointService.getHistory(userId)).hasSize(5);
+        }
+    }
+
+    @Test
+    void 종류가_없는_명령은_처리하지_않고_실패로_돌려준다() {
+        //given
+        long userId = 530L;
+        List<PointCommand> commands = List.of(
+                new PointCommand(userId, 100L, TransactionType.CHARGE),
+                new PointCommand(userId, 30L, null)
+        );
+
+        //when
+        List<PointCommandResult> results = pointBulkService.execute(commands);
+
+        //then
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).error()).isInstanceOf(BizException.class);
+        assertThat(pointService.get(userId).point()).isEqualTo(100L);
+        assertThat(pointService.getHistory(userId)).hasSize(1);
+    }
+
+    @Test
+    void 실패한_항목의_에러_코드는_API_응답과_같다() {
+        //given
+        PointCommand command = new PointCommand(540L, 100L, TransactionType.CHARGE);
+
+        //when
+        PointBulkResponse rejected = PointBulkResponse.from(PointCommandResult.failure(command, new BizException("잔액이 부족합니다.")));
+        PointBulkResponse conflict = PointBulkResponse.from(PointCommandResult.failure(command, new ConflictException("이미 다른 요청에 사용된 멱등 키입니다.")));
+        PointBulkResponse tooMany = PointBulkResponse.from(PointCommandResult.failure(command, new TooManyRequestsException("요청이 많습니다.")));
+        PointBulkResponse error = PointBulkResponse.from(PointCommandResult.failure(command, new IllegalStateException("boom")));
+
+        //then
+        assertThat(rejected.error()).isEqualTo(new ErrorResponse("400", "잔액이 부족합니다."));
+        assertThat(conflict.error().code()).isEqualTo("409");
+        assertThat(tooMany.error().code()).isEqualTo("429");
+        assertThat(error.error()).isEqualTo(new ErrorResponse("500", "에러가 발생했습니다."));
+    }
+}
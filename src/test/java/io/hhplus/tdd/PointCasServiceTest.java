@@ -0,0 +1,141 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.CasPointService;
+import io.hhplus.tdd.domain.point.PointRepository;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.PointValidator;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "point.write-mode=cas")
+public class PointCasServiceTest {
+
+    @Autowired
+    private PointService pointService;
+
+    private final int THREAD_COUNT = 10; // 동시에 실행할 스레드 개수
+
+    @Test
+    void CAS_모드에서는_CAS_서비스가_사용된다() {
+        assertThat(pointService).isInstanceOf(CasPointService.class);
+    }
+
+    /**
+     * 같은 유저에 대한 동시 충전 요청이 CAS 재시도로 처리되어도 모든 충전이 반영되는지 확인한다.
+     */
+    @Test
+    void 같은_유저에_대한_동시_충전_요청이_모두_반영된다() throws InterruptedException {
+        long userId = 111L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.charge(userId, 100L, TransactionType.CHARGE);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // 충전 10번(1000) = 1000
+        assertThat(pointService.get(userId).point()).isEqualTo(1000L);
+        assertThat(pointService.getHistory(userId)).hasSize(THREAD_COUNT);
+    }
+
+    /**
+     * 동시에 들어온 요청 중 검증에 실패한 요청만 예외를 돌려받고, 나머지 요청은 정상 처리되는지 확인한다.
+     */
+    @Test
+    void 검증에_실패한_요청만_예외가_발생한다() throws InterruptedException {
+        long userId = 112L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // 2000 포인트씩 10번 충전하면 5번만 성공하고 나머지는 최대 포인트 초과로 실패한다.
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    UserPoint userPoint = pointService.charge(userId, 2000L, TransactionType.CHARGE);
+                    assertThat(userPoint.point()).isLessThanOrEqualTo(UserPoint.MAX_POINTS);
+                } catch (BizException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        assertThat(failCount.get()).isEqualTo(5);
+        assertThat(pointService.get(userId).point()).isEqualTo(10000L);
+    }
+
+    /**
+     * 저장소 저장에 실패하면 메모리의 잔액을 버리고, 이어지는 요청은 저장소의 잔액을 기준으로 처리되는지 확인한다.
+     */
+    @Test
+    void 저장에_실패하면_다음_요청은_저장소에서_잔액을_다시_읽는다() throws Exception {
+        //given
+        long userId = 113L;
+        PointRepository pointRepository = mock(PointRepository.class);
+        PointValidator pointValidator = mock(PointValidator.class);
+        CasPointService casPointService = new CasPointService(pointValidator, pointRepository);
+
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch failInsert = new CountDownLatch(1);
+        CountDownLatch validating = new CountDownLatch(1);
+        CountDownLatch resumeValidate = new CountDownLatch(1);
+
+        when(pointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0L, 0L));
+        doAnswer(invocation -> {
+            inserting.countDown();
+            failInsert.await();
+            throw new IllegalStateException("저장 실패");
+        }).when(pointRepository).insert(eq(userId), eq(100L), any(), anyLong());
+        when(pointRepository.insertOrUpdate(eq(userId), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(userId, invocation.getArgument(1), System.currentTimeMillis()));
+        doAnswer(invocation -> {
+            validating.countDown();
+            resumeValidate.await();
+            return null;
+        }).when(pointValidator).validate(anyLong(), eq(70L), any());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<UserPoint> failed = executorService.submit(() -> casPointService.charge(userId, 100L, TransactionType.CHARGE));
+        inserting.await();
+        // 실패할 충전(100)이 메모리에 반영된 상태에서 다음 충전(70)이 검증 중
+        Future<UserPoint> next = executorService.submit(() -> casPointService.charge(userId, 70L, TransactionType.CHARGE));
+        validating.await();
+        failInsert.countDown();
+        assertThatThrownBy(failed::get).hasCauseInstanceOf(IllegalStateException.class);
+        resumeValidate.countDown();
+
+        //then
+        assertThat(next.get().point()).isEqualTo(70L);
+        verify(pointRepository).insertOrUpdate(userId, 70L);
+        verify(pointRepository, never()).insertOrUpdate(userId, 170L);
+        verify(pointRepository, times(2)).selectById(userId);
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.GroupCommitPointService;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "point.write-mode=group-commit")
+public class PointGroupCommitServiceTest {
+
+    @Autowired
+    private PointService pointService;
+
+    private final int THREAD_COUNT = 10; // 동시에 실행할 스레드 개수
+
+    @Test
+    void 그룹_커밋_모드에서는_그룹_커밋_서비스가_사용된다() {
+        assertThat(pointService).isInstanceOf(GroupCommitPointService.class);
+    }
+
+    /**
+     * 같은 유저에 대한 동시 충전 요청이 배치로 묶여도 모든 충전이 반영되는지 확인한다.
+     */
+    @Test
+    void 같은_유저에_대한_동시_충전_요청이_모두_반영된다() throws InterruptedException {
+        long userId = 101L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.charge(userId, 100L, TransactionType.CHARGE);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // 충전 10번(1000) = 1000
+        assertThat(pointService.get(userId).point()).isEqualTo(1000L);
+        assertThat(pointService.getHistory(userId)).hasSize(THREAD_COUNT);
+    }
+
+    /**
+     * 같은 배치 안에서 검증에 실패한 요청만 예외를 돌려받고, 나머지 요청은 정상 처리되는지 확인한다.
+     */
+    @Test
+    void 배치_안에서_검증에_실패한_요청만_예외가_발생한다() throws InterruptedException {
+        long userId = 102L;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // 2000 포인트씩 10번 충전하면 5번만 성공하고 나머지는 최대 포인트 초과로 실패한다.
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    UserPoint userPoint = pointService.charge(userId, 2000L, TransactionType.CHARGE);
+                    assertThat(userPoint.point()).isLessThanOrEqualTo(UserPoint.MAX_POINTS);
+                } catch (BizException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        assertThat(failCount.get()).isEqualTo(5);
+        assertThat(pointService.get(userId).point()).isEqualTo(10000L);
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistory.Granularity;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.infrastructure.point.PointHistoryCompactionProperties;
+import io.hhplus.tdd.infrastructure.point.PointHistoryCompactor;
+import io.hhplus.tdd.infrastructure.point.PointHistoryIndex;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointHistoryCompactionTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private PointHistoryCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new PointHistoryCompactor(
+                new PointHistoryCompactionProperties(true, Duration.ofDays(30), Duration.ofDays(365), Duration.ofHours(1), "UTC"),
+                pointHistoryIndex, new WorkerThreads(new StandardEnvironment()));
+
+        append(1L, 100L, TransactionType.CHARGE, "2023-06-10T10:00:00Z");
+        append(2L, 30L, TransactionType.USE, "2023-06-20T10:00:00Z");
+        append(3L, 200L, TransactionType.CHARGE, "2024-03-05T10:00:00Z");
+        append(4L, 50L, TransactionType.CHARGE, "2024-03-05T11:00:00Z");
+        append(5L, 40L, TransactionType.USE, "2024-03-06T10:00:00Z");
+        append(6L, 10L, TransactionType.CHARGE, "2024-12-20T10:00:00Z");
+    }
+
+    @AfterEach
+    void tearDown() {
+        compactor.close();
+    }
+
+    @Test
+    void 오래된_내역은_일별_월별_집계로_바뀌고_최근_내역은_그대로_남는다() {
+        //when
+        long compacted = compactor.compact(millis("2024-12-31T00:00:00Z"));
+
+        //then
+        assertThat(compacted).isEqualTo(5L);
+        assertThat(pointHistoryIndex.selectAllByUserId(1L)).containsExactly(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, millis("2023-06-01T00:00:00Z"), bucket(Granularity.MONTH, 1L, 1L)),
+                new PointHistory(2L, 1L, 30L, TransactionType.USE, millis("2023-06-01T00:00:00Z"), bucket(Granularity.MONTH, 1L, 1L)),
+                new PointHistory(4L, 1L, 250L, TransactionType.CHARGE, millis("2024-03-05T00:00:00Z"), bucket(Granularity.DAY, 3L, 2L)),
+                new PointHistory(5L, 1L, 40L, TransactionType.USE, millis("2024-03-06T00:00:00Z"), bucket(Granularity.DAY, 5L, 1L)),
+                new PointHistory(6L, 1L, 10L, TransactionType.CHARGE, millis("2024-12-20T10:00:00Z")));
+    }
+
+    @Test
+    void 집계와_최근_내역을_합쳐서_커서로_조회한다() {
+        //given
+        compactor.compact(millis("2024-12-31T00:00:00Z"));
+
+        //when
+        PointHistoryQuery first = PointHistoryQuery.first(2);
+        List<PointHistory> page1 = pointHistoryIndex.selectHistories(1L, first);
+        List<PointHistory> page2 = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(page1.get(1).id(), 2, null, null, null));
+        List<PointHistory> page3 = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(page2.get(1).id(), 2, null, null, null));
+        List<PointHistory> charges = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(null, 10, null, null, TransactionType.CHARGE));
+
+        //then
+        assertThat(page1).extracting(PointHistory::id).containsExactly(1L, 2L);
+        assertThat(page2).extracting(PointHistory::id).containsExactly(4L, 5L);
+        assertThat(page3).extracting(PointHistory::id).containsExactly(6L);
+        assertThat(charges).extracting(PointHistory::amount).containsExactly(100L, 250L, 10L);
+    }
+
+    /**
+     * 압축 전에 받은 커서가 집계 구간 안을 가리키면, 이미 일부를 읽은 집계는 다시 내려주지 않는다.
+     */
+    @Test
+    void 압축_전에_받은_커서로_이어서_조회해도_이미_읽은_내역을_다시_세지_않는다() {
+        //given
+        List<PointHistory> before = pointHistoryIndex.selectHistories(1L, PointHistoryQuery.first(3));
+        compactor.compact(millis("2024-12-31T00:00:00Z"));
+
+        //when
+        List<PointHistory> after = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(before.get(2).id(), 10, null, null, null));
+        List<PointHistory> sibling = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(1L, 1, null, null, null));
+
+        //then
+        assertThat(before).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        // id 3, 4 의 집계(id 4)는 id 3 을 이미 읽었으므로 건너뛴다.
+        assertThat(after).extracting(PointHistory::id).containsExactly(5L, 6L);
+        // 압축 후의 집계 내역 id 를 커서로 받으면 같은 기간의 다음 집계부터 이어서 내려준다.
+        assertThat(sibling).extracting(PointHistory::id).containsExactly(2L);
+    }
+
+    /**
+     * 전체 내보내기(forEach)도 압축된 기간을 집계 내역으로 읽으므로, 합계와 건수가 원본 내역과 같다.
+     */
+    @Test
+    void 전체_내역_순회에는_압축된_기간이_건수와_함께_집계_내역으로_포함된다() {
+        //given
+        compactor.compact(millis("2024-12-31T00:00:00Z"));
+
+        //when
+        List<PointHistory> result = new ArrayList<>();
+        pointHistoryIndex.forEach(result::add);
+
+        //then
+        assertThat(result).extracting(PointHistory::id).containsExactly(1L, 2L, 4L, 5L, 6L);
+        assertThat(result).filteredOn(pointHistory -> pointHistory.bucket() == null).extracting(PointHistory::id).containsExactly(6L);
+        assertThat(result.stream().mapToLong(pointHistory -> pointHistory.bucket() == null ? 1L : pointHistory.bucket().count()).sum())
+                .isEqualTo(6L);
+        assertThat(result.stream().filter(pointHistory -> pointHistory.type() == TransactionType.CHARGE).mapToLong(PointHistory::amount).sum())
+                .isEqualTo(360L);
+        assertThat(result.stream().filter(pointHistory -> pointHistory.type() == TransactionType.USE).mapToLong(PointHistory::amount).sum())
+                .isEqualTo(70L);
+    }
+
+    @Test
+    void 보관_기간이_지난_일별_집계는_월별_집계로_합쳐진다() {
+        //given
+        compactor.compact(millis("2024-12-31T00:00:00Z"));
+        append(7L, 5L, TransactionType.USE, "2025-03-20T10:00:00Z");
+
+        //when
+        long compacted = compactor.compact(millis("2025-04-01T00:00:00Z"));
+
+        //then
+        assertThat(compacted).isEqualTo(1L);
+        assertThat(pointHistoryIndex.selectAllByUserId(1L)).containsExactly(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, millis("2023-06-01T00:00:00Z"), bucket(Granularity.MONTH, 1L, 1L)),
+                new PointHistory(2L, 1L, 30L, TransactionType.USE, millis("2023-06-01T00:00:00Z"), bucket(Granularity.MONTH, 1L, 1L)),
+                new PointHistory(4L, 1L, 250L, TransactionType.CHARGE, millis("2024-03-01T00:00:00Z"), bucket(Granularity.MONTH, 3L, 2L)),
+                new PointHistory(5L, 1L, 40L, TransactionType.USE, millis("2024-03-01T00:00:00Z"), bucket(Granularity.MONTH, 3L, 1L)),
+                new PointHistory(6L, 1L, 10L, TransactionType.CHARGE, millis("2024-12-20T00:00:00Z"), bucket(Granularity.DAY, 6L, 1L)),
+                new PointHistory(7L, 1L, 5L, TransactionType.USE, millis("2025-03-20T10:00:00Z")));
+    }
+
+    private void append(long id, long amount, TransactionType type, String time) {
+        pointHistoryIndex.append(new PointHistory(id, 1L, amount, type, millis(time)));
+    }
+
+    private static PointHistory.Bucket bucket(Granularity granularity, long firstId, long count) {
+        return new PointHistory.Bucket(granularity, firstId, count);
+    }
+
+    private static long millis(String time) {
+        return Instant.parse(time).toEpochMilli();
+    }
+}
@@ -0,0 +1,204 @@
+package io.hhplus.tdd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryExportService;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.PointPartitionRouter;
+import io.hhplus.tdd.domain.point.PointRepository;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.interfaces.api.point.PointExportController;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+public class PointHistoryExportTest {
+
+    @InjectMocks
+    private PointHistoryExportService pointHistoryExportService;
+
+    @Mock
+    private PointPartitionRouter pointPartitionRouter;
+
+    @Mock
+    private PointRepository pointRepository;
+
+    @Mock
+    private PointService pointService;
+
+    @Test
+    void 유저의_내역을_커서로_나눠서_모두_내보낸다() {
+        //given
+        when(pointPartitionRouter.serviceFor(1L)).thenReturn(pointService);
+        when(pointService.getHistory(eq(1L), any(PointHistoryQuery.class))).thenAnswer(invocation -> {
+            PointHistoryQuery query = invocation.getArgument(1);
+            return LongStream.rangeClosed(query.afterId() + 1, Math.min(query.afterId() + query.size(), 2500L))
+                    .mapToObj(PointHistoryExportTest::history)
+                    .toList();
+        });
+
+        //when
+        List<PointHistory> exported = new ArrayList<>();
+        pointHistoryExportService.export(1L, exported::add);
+
+        //then
+        assertThat(exported).extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1L, 2500L).boxed().toList());
+        verify(pointService, times(3)).getHistory(eq(1L), any(PointHistoryQuery.class));
+    }
+
+    @Test
+    void 내역을_한_줄에_하나씩_JSON_으로_내보낸다() throws Exception {
+        //given
+        doAnswer(invocation -> {
+            Consumer<PointHistory> consumer = invocation.getArgument(0);
+            consumer.accept(history(1L));
+            consumer.accept(history(2L));
+            return null;
+        }).when(pointRepository).forEachHistory(any());
+        ObjectMapper objectMapper = new ObjectMapper();
+        PointExportController controller = new PointExportController(pointHistoryExportService, objectMapper);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        WebAsyncTask<Void> task = controller.exportAll(response);
+        task.getCallable().call();
+
+        //then
+        assertThat(task.getTimeout()).isEqualTo(Duration.ofMinutes(10).toMillis()); // 내보내기 API 에만 적용되는 제한 시간
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], PointHistory.class)).isEqualTo(history(1L));
+        assertThat(objectMapper.readValue(lines[1], PointHistory.class)).isEqualTo(history(2L));
+    }
+
+    @Test
+    void 클라이언트_연결이_끊기면_내보내기를_중단한다() throws IOException {
+        //given
+        AtomicInteger read = new AtomicInteger();
+        doAnswer(invocation -> {
+            Consumer<PointHistory> consumer = invocation.getArgument(0);
+            for (long id = 1L; id <= 100_000L; id++) {
+                read.incrementAndGet();
+                consumer.accept(history(id));
+            }
+            return null;
+        }).when(pointRepository).forEachHistory(any());
+        PointExportController controller = new PointExportController(pointHistoryExportService, new ObjectMapper());
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection reset");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        //when, then
+        assertThatThrownBy(() -> controller.exportAll(response).getCallable().call())
+                .isInstanceOf(IOException.class);
+        assertThat(read.get()).isLessThan(1_000);
+    }
+
+    /**
+     * 제한 시간이 지나면 컨테이너가 응답을 닫으므로, 그 뒤로는 내역을 쓰지 않고 마지막 줄에 에러를 남긴다.
+     */
+    @Test
+    void 제한_시간이_지나면_마지막_줄에_에러를_남기고_내보내기를_중단한다() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch timedOut = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicInteger read = new AtomicInteger();
+        doAnswer(invocation -> {
+            Consumer<PointHistory> consumer = invocation.getArgument(0);
+            try {
+                consumer.accept(history(1L));
+                started.countDown();
+                timedOut.await();
+                for (long id = 2L; id <= 1_000L; id++) {
+                    read.incrementAndGet();
+                    consumer.accept(history(id));
+                }
+                return null;
+            } finally {
+                finished.countDown();
+            }
+        }).when(pointRepository).forEachHistory(any());
+        ObjectMapper objectMapper = new ObjectMapper();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PointExportController(pointHistoryExportService, objectMapper)).build();
+        MvcResult result = mockMvc.perform(get("/point/histories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        timedOut.countDown();
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], PointHistory.class)).isEqualTo(history(1L));
+        assertThat(objectMapper.readValue(lines[1], ErrorResponse.class).code()).isEqualTo("503");
+        assertThat(read.get()).isEqualTo(1); // 제한 시간이 지난 뒤의 첫 내역에서 중단한다.
+    }
+
+    private static PointHistory history(long id) {
+        return new PointHistory(id, 1L, 10L, TransactionType.CHARGE, id);
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.infrastructure.point.PointHistoryIndex;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointHistoryIndexTest {
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+    @Test
+    void 추가한_내역은_유저별로_조회된다() {
+        //given
+        append(1L, 1L, TransactionType.CHARGE);
+        append(2L, 2L, TransactionType.CHARGE);
+        append(3L, 1L, TransactionType.USE);
+
+        //when
+        List<PointHistory> user1 = pointHistoryIndex.selectAllByUserId(1L);
+        List<PointHistory> user2 = pointHistoryIndex.selectAllByUserId(2L);
+
+        //then
+        assertThat(user1).extracting(PointHistory::id).containsExactly(1L, 3L);
+        assertThat(user2).extracting(PointHistory::id).containsExactly(2L);
+        assertThat(pointHistoryIndex.selectAllByUserId(3L)).isEmpty();
+    }
+
+    /**
+     * 조회 결과는 그 시점까지 공개된 내역의 복사본이므로, 이후에 추가되는 내역(배열 확장 포함)의 영향을 받지 않는다.
+     */
+    @Test
+    void 조회한_목록은_이후에_추가된_내역의_영향을_받지_않는다() {
+        //given
+        for (long id = 1L; id <= 5L; id++) {
+            append(id, 1L, TransactionType.CHARGE);
+        }
+        List<PointHistory> before = pointHistoryIndex.selectAllByUserId(1L);
+
+        //when
+        for (long id = 6L; id <= 20L; id++) {
+            append(id, 1L, TransactionType.CHARGE);
+        }
+        List<PointHistory> after = pointHistoryIndex.selectAllByUserId(1L);
+
+        //then
+        assertThat(before).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(after).hasSize(20);
+        assertThat(after).extracting(PointHistory::id).isSorted();
+    }
+
+    @Test
+    void 커서_다음_내역부터_size_만큼_조회한다() {
+        //given
+        for (long id = 1L; id <= 10L; id++) {
+            append(id, 1L, TransactionType.CHARGE);
+        }
+
+        //when
+        List<PointHistory> first = pointHistoryIndex.selectHistories(1L, PointHistoryQuery.first(3));
+        List<PointHistory> next = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(3L, 3, null, null, null));
+        List<PointHistory> last = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(9L, 3, null, null, null));
+        List<PointHistory> end = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(10L, 3, null, null, null));
+
+        //then
+        assertThat(first).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertThat(next).extracting(PointHistory::id).containsExactly(4L, 5L, 6L);
+        assertThat(last).extracting(PointHistory::id).containsExactly(10L);
+        assertThat(end).isEmpty();
+    }
+
+    /**
+     * 다른 유저의 내역 id 처럼 세그먼트에 없는 id 를 커서로 받아도, 그보다 큰 첫 내역부터 조회한다.
+     */
+    @Test
+    void 세그먼트에_없는_id_를_커서로_받으면_그보다_큰_내역부터_조회한다() {
+        //given
+        for (long id = 1L; id <= 8L; id++) {
+            append(id, id % 2 == 0 ? 1L : 2L, TransactionType.CHARGE);
+        }
+
+        //when
+        List<PointHistory> result = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(5L, 10, null, null, null));
+        List<PointHistory> beforeFirst = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(1L, 10, null, null, null));
+
+        //then
+        assertThat(result).extracting(PointHistory::id).containsExactly(6L, 8L);
+        assertThat(beforeFirst).extracting(PointHistory::id).containsExactly(2L, 4L, 6L, 8L);
+    }
+
+    @Test
+    void 조건에_맞는_내역만_커서_다음부터_size_만큼_조회한다() {
+        //given
+        for (long id = 1L; id <= 10L; id++) {
+            append(id, 1L, id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE);
+        }
+
+        //when
+        List<PointHistory> uses = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(3L, 2, null, null, TransactionType.USE));
+        List<PointHistory> range = pointHistoryIndex.selectHistories(1L, new PointHistoryQuery(null, 10, 4000L, 7000L, null));
+
+        //then
+        assertThat(uses).extracting(PointHistory::id).containsExactly(6L, 9L);
+        assertThat(range).extracting(PointHistory::id).containsExactly(4L, 5L, 6L); // [from, to)
+    }
+
+    /**
+     * 쓰기와 동시에 읽어도, 읽은 목록은 항상 처음부터 이어지는 내역(id 1 ~ n)이다.
+     */
+    @Test
+    void 추가와_동시에_조회해도_항상_앞에서부터_이어진_내역을_읽는다() throws Exception {
+        //given
+        int count = 10_000;
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        //when
+        Future<?> writer = executorService.submit(() -> {
+            for (long id = 1L; id <= count; id++) {
+                append(id, 1L, TransactionType.CHARGE);
+            }
+        });
+        int reads = 0;
+        while (!writer.isDone() || reads == 0) {
+            List<PointHistory> snapshot = pointHistoryIndex.selectAllByUserId(1L);
+
+            //then
+            for (int i = 0; i < snapshot.size(); i++) {
+                assertThat(snapshot.get(i).id()).isEqualTo(i + 1L);
+            }
+            reads++;
+        }
+        writer.get();
+        executorService.shutdown();
+        assertThat(pointHistoryIndex.selectAllByUserId(1L)).hasSize(count);
+    }
+
+    private void append(long id, long userId, TransactionType type) {
+        pointHistoryIndex.append(new PointHistory(id, userId, 10L, type, id * 1000L));
+    }
+}
@@ -0,0 +1,228 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.infrastructure.point.PointHistoryOutbox;
+import io.hhplus.tdd.infrastructure.point.PointHistoryOutboxProperties;
+import io.hhplus.tdd.infrastructure.point.PointHistoryStore;
+import io.hhplus.tdd.interfaces.api.point.PointController;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = "point.history-outbox.enabled=true")
+public class PointHistoryOutboxTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointHistoryOutbox pointHistoryOutbox;
+
+    @Autowired
+    private PointController pointController;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * 내역이 아직 테이블에 저장되지 않았더라도 같은 유저는 바로 자신의 내역을 조회할 수 있다.
+     */
+    @Test
+    void 충전_직후_내역을_조회하면_저장_대기중인_내역도_포함된다() {
+        //given
+        long userId = 201L;
+        pointService.charge(userId, 100L, TransactionType.CHARGE);
+        pointService.charge(userId, 200L, TransactionType.CHARGE);
+        pointService.use(userId, 50L, TransactionType.USE);
+
+        //when
+        List<PointHistory> result = pointService.getHistory(userId);
+
+        //then
+        assertThat(result).extracting(PointHistory::amount).containsExactly(100L, 200L, 50L);
+    }
+
+    /**
+     * 내역 조회 API 는 항상 커서 조회를 사용하므로, 첫 페이지(마지막 페이지)에서 저장 대기중인 내역을 바로 읽을 수 있어야 한다.
+     */
+    @Test
+    void 충전_직후_내역_조회_API_에_저장_대기중인_내역도_포함된다() {
+        //given
+        long userId = 205L;
+        pointController.charge(userId, new PointRequest(100L));
+        pointController.use(userId, new PointRequest(30L));
+
+        //when
+        List<PointHistory> result = pointController.history(userId, null, PointHistoryQuery.DEFAULT_SIZE, null, null, null);
+
+        //then
+        assertThat(result).extracting(PointHistory::amount, PointHistory::type)
+                .containsExactly(tuple(100L, TransactionType.CHARGE), tuple(30L, TransactionType.USE));
+    }
+
+    /**
+     * outbox 에 쌓인 내역은 순서대로 테이블에 저장되고 id 가 발급된다.
+     */
+    @Test
+    void outbox_의_내역은_순서대로_저장된다() throws InterruptedException {
+        //given
+        long userId = 202L;
+        for (int i = 1; i <= 5; i++) {
+            pointService.charge(userId, i * 10L, TransactionType.CHARGE);
+        }
+
+        //when
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        List<PointHistory> result = pointService.getHistory(userId);
+        while (result.stream().anyMatch(history -> history.id() == 0L) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            result = pointService.getHistory(userId);
+        }
+
+        //then
+        assertThat(pointHistoryOutbox.isEnabled()).isTrue();
+        assertThat(result).extracting(PointHistory::amount).containsExactly(10L, 20L, 30L, 40L, 50L);
+        assertThat(result).extracting(PointHistory::id).isSorted().doesNotContain(0L);
+    }
+
+    /**
+     * 저장 전 내역(id 0)이 커서가 되면 처음부터 다시 읽게 되므로, 커서 조회에서는 마지막 페이지를 가득 채우지 않는 만큼만 넣는다.
+     */
+    @Test
+    void 저장_전_내역은_마지막_페이지를_가득_채우지_않는_만큼만_포함된다() throws InterruptedException {
+        //given
+        long userId = 203L;
+        PointHistoryStore pointHistoryStore = mock(PointHistoryStore.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointHistoryStore.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return new PointHistory(1L, userId, 100L, TransactionType.CHARGE, 1000L);
+        });
+        PointHistoryOutbox outbox = newOutbox(pointHistoryStore, 10);
+        outbox.publish(userId, 100L, TransactionType.CHARGE, 1000L);
+        outbox.publish(userId, 200L, TransactionType.CHARGE, 2000L);
+
+        //when
+        List<PointHistory> page = outbox.mergePending(userId, PointHistoryQuery.first(10), List::of);
+        List<PointHistory> smallPage = outbox.mergePending(userId, PointHistoryQuery.first(2), List::of);
+        List<PointHistory> all = outbox.mergePending(userId, null, List::of);
+
+        //then
+        assertThat(page).extracting(PointHistory::id, PointHistory::amount).containsExactly(tuple(0L, 100L), tuple(0L, 200L));
+        assertThat(smallPage).extracting(PointHistory::amount).containsExactly(100L); // 페이지가 가득 차지 않으므로 마지막 페이지다.
+        assertThat(all).extracting(PointHistory::id, PointHistory::amount).containsExactly(tuple(0L, 100L), tuple(0L, 200L));
+
+        release.countDown();
+        outbox.flush();
+    }
+
+    /**
+     * 저장에 계속 실패하는 내역은 재시도 횟수를 넘으면 dead letter 로 옮겨서, 같은 파티션의 다음 내역이 막히지 않게 한다.
+     */
+    @Test
+    void 저장에_계속_실패한_내역은_dead_letter_로_옮긴다() throws InterruptedException {
+        //given
+        long userId = 204L;
+        PointHistoryStore pointHistoryStore = mock(PointHistoryStore.class);
+        when(pointHistoryStore.insert(eq(userId), eq(100L), any(), anyLong())).thenThrow(new IllegalStateException("저장 실패"));
+        when(pointHistoryStore.insert(eq(userId), eq(200L), any(), anyLong()))
+                .thenReturn(new PointHistory(1L, userId, 200L, TransactionType.CHARGE, 2000L));
+        PointHistoryOutbox outbox = newOutbox(pointHistoryStore, 2);
+
+        //when
+        outbox.publish(userId, 100L, TransactionType.CHARGE, 1000L);
+        outbox.publish(userId, 200L, TransactionType.CHARGE, 2000L);
+        outbox.flush();
+
+        //then
+        assertThat(outbox.deadLetters()).extracting(PointHistory::amount).containsExactly(100L);
+        assertThat(meterRegistry.get("point.history.outbox.dead.letters").gauge().value()).isEqualTo(1.0);
+        verify(pointHistoryStore, times(3)).insert(eq(userId), eq(100L), any(), anyLong()); // 처음 1번 + 재시도 2번
+        verify(pointHistoryStore).insert(eq(userId), eq(200L), any(), anyLong());
+        // 잔액에는 반영된 내역이므로 조회 결과에는 저장 전 내역처럼 계속 포함된다.
+        assertThat(outbox.mergePending(userId, null, List::of))
+                .extracting(PointHistory::id, PointHistory::amount).containsExactly(tuple(0L, 100L));
+    }
+
+    /**
+     * dead letter 는 정해진 수까지만 쌓고, 가득 차면 옮기지 않고 계속 재시도한다. (같은 파티션의 다음 내역은 기다린다)
+     */
+    @Test
+    void dead_letter_가_가득_차면_옮기지_않고_계속_재시도한다() throws InterruptedException {
+        //given
+        long userId = 206L;
+        PointHistoryStore pointHistoryStore = mock(PointHistoryStore.class);
+        CountDownLatch retried = new CountDownLatch(5);
+        when(pointHistoryStore.insert(eq(userId), eq(100L), any(), anyLong())).thenThrow(new IllegalStateException("저장 실패"));
+        when(pointHistoryStore.insert(eq(userId), eq(200L), any(), anyLong())).thenAnswer(invocation -> {
+            retried.countDown();
+            throw new IllegalStateException("저장 실패");
+        });
+        PointHistoryOutbox outbox = newOutbox(pointHistoryStore, 1, 1);
+
+        //when
+        outbox.publish(userId, 100L, TransactionType.CHARGE, 1000L);
+        outbox.publish(userId, 200L, TransactionType.CHARGE, 2000L);
+        outbox.publish(userId, 300L, TransactionType.CHARGE, 3000L);
+        assertThat(retried.await(10, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        assertThat(outbox.deadLetters()).extracting(PointHistory::amount).containsExactly(100L);
+        assertThat(meterRegistry.get("point.history.outbox.dead.letters").gauge().value()).isEqualTo(1.0);
+        verify(pointHistoryStore, never()).insert(eq(userId), eq(300L), any(), anyLong());
+        assertThat(outbox.mergePending(userId, null, List::of)).extracting(PointHistory::amount).containsExactly(100L, 200L, 300L);
+
+        outbox.flush();
+    }
+
+    @Test
+    void outbox_가_가득_차면_429_로_거절한다() {
+        //given
+        long userId = 207L;
+        PointHistoryStore pointHistoryStore = mock(PointHistoryStore.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointHistoryStore.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return new PointHistory(1L, userId, 10L, TransactionType.CHARGE, 1000L);
+        });
+        PointHistoryOutbox outbox = newOutbox(pointHistoryStore, 10, 10, Duration.ofMillis(10));
+
+        //when, then
+        assertThatThrownBy(() -> {
+            for (int i = 0; i <= 11; i++) { // 저장 중인 1건 + 대기 10건이 차면 다음 내역은 거절된다.
+                outbox.publish(userId, 10L, TransactionType.CHARGE, i);
+            }
+        }).isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        outbox.flush();
+    }
+
+    private PointHistoryOutbox newOutbox(PointHistoryStore pointHistoryStore, int maxRetries) {
+        return newOutbox(pointHistoryStore, maxRetries, 10);
+    }
+
+    private PointHistoryOutbox newOutbox(PointHistoryStore pointHistoryStore, int maxRetries, int deadLetterCapacity) {
+        return newOutbox(pointHistoryStore, maxRetries, deadLetterCapacity, Duration.ofSeconds(1));
+    }
+
+    private PointHistoryOutbox newOutbox(PointHistoryStore pointHistoryStore, int maxRetries, int deadLetterCapacity,
+                                         Duration publishTimeout) {
+        PointHistoryOutboxProperties properties = new PointHistoryOutboxProperties(
+                true, 10, 1, publishTimeout, Duration.ofMillis(1), maxRetries, deadLetterCapacity, Duration.ofSeconds(10));
+        return new PointHistoryOutbox(properties, pointHistoryStore, new WorkerThreads(new StandardEnvironment()), meterRegistry);
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.IdempotencyProperties;
+import io.hhplus.tdd.domain.point.PointIdempotencyCache;
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PointIdempotencyCacheTest {
+
+    private final int THREAD_COUNT = 10; // 동시에 실행할 스레드 개수
+
+    private final PointIdempotencyCache cache = new PointIdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(1)));
+
+    @Test
+    void 같은_키로_다시_요청하면_처음_결과를_돌려준다() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        UserPoint first = cache.execute("key-1", 1L, 100L, TransactionType.CHARGE, () -> charge(calls, 100L));
+
+        //when
+        UserPoint retried = cache.execute("key-1", 1L, 100L, TransactionType.CHARGE, () -> charge(calls, 200L));
+
+        //then
+        assertThat(retried).isEqualTo(first);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_들어온_중복_요청은_한_번만_처리된다() throws InterruptedException {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    cache.execute("key-2", 1L, 100L, TransactionType.CHARGE, () -> {
+                        sleep(100);
+                        return charge(calls, 100L);
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        //then
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외가_발생한다() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        cache.execute("key-3", 1L, 100L, TransactionType.CHARGE, () -> charge(calls, 100L));
+
+        //when, then
+        assertThatThrownBy(() -> cache.execute("key-3", 1L, 500L, TransactionType.CHARGE, () -> charge(calls, 500L)))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void 실패한_요청은_같은_키로_다시_시도할_수_있다() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> cache.execute("key-4", 1L, 100L, TransactionType.USE, () -> {
+            throw new BizException("포인트 잔고가 부족합니다.");
+        })).isInstanceOf(BizException.class);
+
+        //when
+        UserPoint result = cache.execute("key-4", 1L, 100L, TransactionType.USE, () -> charge(calls, 0L));
+
+        //then
+        assertThat(result.point()).isZero();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_키부터_제거된다() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 150; i++) {
+            cache.execute("key-" + i, 2L, 1L, TransactionType.CHARGE, () -> charge(calls, 1L));
+        }
+
+        //then
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    /**
+     * 최대 개수를 넘어도 아직 처리 중인 키는 제거하지 않으므로, 그 사이에 들어온 재시도는 처음 요청의 결과를 기다린다.
+     */
+    @Test
+    void 처리_중인_키는_최대_개수를_넘어도_제거되지_않는다() throws Exception {
+        //given
+        PointIdempotencyCache smallCache = new PointIdempotencyCache(new IdempotencyProperties(1, Duration.ofMinutes(1)));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<UserPoint> first = executorService.submit(() -> smallCache.execute("slow", 3L, 100L, TransactionType.CHARGE, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return charge(calls, 100L);
+        }));
+        started.await();
+
+        //when
+        smallCache.execute("other", 3L, 10L, TransactionType.CHARGE, () -> charge(calls, 10L)); // 최대 개수(1)를 넘긴다.
+        Future<UserPoint> retried = executorService.submit(() -> smallCache.execute("slow", 3L, 100L, TransactionType.CHARGE,
+                () -> charge(calls, 999L)));
+        release.countDown();
+
+        //then
+        assertThat(retried.get()).isEqualTo(first.get());
+        assertThat(calls.get()).isEqualTo(2); // slow 1번 + other 1번
+        executorService.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static UserPoint charge(AtomicInteger calls, long point) {
+        calls.incrementAndGet();
+        return new UserPoint(1L, point, System.currentTimeMillis());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+public class PointMetricsTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 충전하면_Lock_과_저장소_호출_시간이_기록된다() {
+        //given
+        long lockCount = meterRegistry.get("point.lock.hold").timer().count();
+        long storageCount = meterRegistry.get("point.storage").tag("method", "insertOrUpdate").timer().count();
+
+        //when
+        pointService.charge(601L, 100L, TransactionType.CHARGE);
+
+        //then
+        assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(lockCount + 1);
+        assertThat(meterRegistry.get("point.storage").tag("method", "insertOrUpdate").timer().count()).isEqualTo(storageCount + 1);
+    }
+
+    @Test
+    void 검증에_실패하면_사유와_거래_유형별로_집계된다() {
+        //given
+        double before = meterRegistry.get("point.rejections")
+                .tag("reason", "insufficient_balance").tag("type", "USE").counter().count();
+        pointService.charge(602L, 100L, TransactionType.CHARGE);
+
+        //when
+        assertThatThrownBy(() -> pointService.use(602L, 500L, TransactionType.USE))
+                .isInstanceOf(BizException.class);
+
+        //then
+        assertThat(meterRegistry.get("point.rejections")
+                .tag("reason", "insufficient_balance").tag("type", "USE").counter().count()).isEqualTo(before + 1);
+    }
+}
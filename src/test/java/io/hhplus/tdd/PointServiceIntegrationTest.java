@@ -1,6 +1,7 @@
 package io.hhplus.tdd;
 
 import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.domain.point.PointHistoryQuery;
 import io.hhplus.tdd.domain.point.PointRepository;
 import io.hhplus.tdd.domain.point.PointService;
 import io.hhplus.tdd.domain.point.UserPoint;
@@ -48,6 +49,39 @@ public class PointServiceIntegrationTest {
         assertThat(result.size()).isEqualTo(3);
     }
 
+    @Test
+    public void 유저_포인트_내역_커서_조회() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            pointRepository.insert(2L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+
+        //when
+        List<PointHistory> firstPage = pointService.getHistory(2L, PointHistoryQuery.first(3));
+        long cursor = firstPage.get(firstPage.size() - 1).id();
+        List<PointHistory> secondPage = pointService.getHistory(2L, new PointHistoryQuery(cursor, 3, null, null, null));
+
+        //then
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(2);
+        assertThat(secondPage.get(0).id()).isGreaterThan(cursor);
+    }
+
+    @Test
+    public void 유저_포인트_내역_종류별_조회() {
+        //given
+        pointRepository.insert(3L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        pointRepository.insert(3L, 50L, TransactionType.USE, System.currentTimeMillis());
+        pointRepository.insert(3L, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        //when
+        List<PointHistory> result = pointService.getHistory(3L, new PointHistoryQuery(null, 10, null, null, TransactionType.USE));
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).amount()).isEqualTo(50L);
+    }
+
     @Test
     void 포인트_충전() {
         //given
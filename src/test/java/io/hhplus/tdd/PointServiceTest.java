@@ -25,6 +25,12 @@ public class PointServiceTest {
     @Mock
     private PointValidator pointValidator;
 
+    @Mock
+    private PointMetrics pointMetrics;
+
+    @Mock
+    private HotUserDetector hotUserDetector;
+
     @Mock
     private UserPoint userPoint;
 
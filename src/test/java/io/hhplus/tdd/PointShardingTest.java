@@ -0,0 +1,167 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.ConsistentHashRing;
+import io.hhplus.tdd.domain.point.PointPartitionRouter;
+import io.hhplus.tdd.domain.point.PointRepository;
+import io.hhplus.tdd.interfaces.api.point.PointController;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 한 JVM 안에서 노드 3개를 띄워서 유저별 담당 노드로 요청이 전달되는지 확인한다.
+ */
+public class PointShardingTest {
+
+    private static final int NODE_COUNT = 3;
+
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startNodes() {
+        int[] ports = new int[NODE_COUNT];
+        for (int i = 0; i < NODE_COUNT; i++) {
+            ports[i] = freePort();
+        }
+        for (int i = 0; i < NODE_COUNT; i++) {
+            List<String> args = new ArrayList<>(List.of(
+                    "--server.port=" + ports[i],
+                    "--point.sharding.enabled=true",
+                    "--point.sharding.node-id=node-" + i));
+            for (int j = 0; j < NODE_COUNT; j++) {
+                args.add("--point.sharding.nodes[" + j + "].id=node-" + j);
+                args.add("--point.sharding.nodes[" + j + "].url=http://localhost:" + ports[j]);
+            }
+            nodes.add(new SpringApplicationBuilder(TddApplication.class).run(args.toArray(new String[0])));
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void 유저는_노드들에_고르게_나뉘고_노드가_추가되어도_일부만_옮겨진다() {
+        //given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-0", "node-1", "node-2"), 128);
+        ConsistentHashRing scaledRing = new ConsistentHashRing(List.of("node-0", "node-1", "node-2", "node-3"), 128);
+        int userCount = 30_000;
+
+        //when
+        Map<String, Integer> counts = new HashMap<>();
+        int moved = 0;
+        for (long userId = 1L; userId <= userCount; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+            if (!ring.ownerOf(userId).equals(scaledRing.ownerOf(userId))) {
+                moved++;
+            }
+        }
+
+        //then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(userCount / 3 * 8 / 10, userCount / 3 * 12 / 10));
+        assertThat(moved).isLessThan(userCount * 4 / 10);
+    }
+
+    @Test
+    void 어느_노드로_요청해도_담당_노드에서_처리된다() {
+        //given
+        List<Long> userIds = List.of(601L, 602L, 603L, 604L, 605L, 606L);
+
+        //when
+        for (int i = 0; i < userIds.size(); i++) {
+            long userId = userIds.get(i);
+            controller(i % NODE_COUNT).charge(userId, new PointRequest(100L));
+            controller((i + 1) % NODE_COUNT).use(userId, new PointRequest(30L));
+        }
+
+        //then
+        for (long userId : userIds) {
+            for (int i = 0; i < NODE_COUNT; i++) {
+                assertThat(controller(i).point(userId).point()).isEqualTo(70L);
+                assertThat(controller(i).history(userId, null, 100, null, null, null)).hasSize(2);
+            }
+            // 잔액은 담당 노드의 저장소에만 있다.
+            for (int i = 0; i < NODE_COUNT; i++) {
+                long stored = nodes.get(i).getBean(PointRepository.class).selectById(userId).point();
+                assertThat(stored).isEqualTo(router(i).isLocal(userId) ? 70L : 0L);
+            }
+        }
+    }
+
+    @Test
+    void 같은_멱등_키로_여러_노드에_요청해도_담당_노드에서_한_번만_처리된다() {
+        //given
+        long userId = 621L;
+        PointRequest request = new PointRequest(100L, "charge-621");
+
+        //when
+        for (int i = 0; i < NODE_COUNT; i++) {
+            controller(i).charge(userId, request);
+        }
+
+        //then
+        assertThat(controller(0).point(userId).point()).isEqualTo(100L);
+        assertThat(controller(0).history(userId, null, 100, null, null, null)).hasSize(1);
+    }
+
+    @Test
+    void 담당_노드의_검증_실패는_요청한_노드에서도_BizException_으로_전달된다() {
+        //given
+        long userId = 611L;
+        int remote = 0;
+        while (router(remote).isLocal(userId)) {
+            remote++;
+        }
+        PointController controller = controller(remote);
+
+        //when, then
+        assertThatThrownBy(() -> controller.use(userId, new PointRequest(10L)))
+                .isInstanceOf(BizException.class);
+    }
+
+    @Test
+    void 현재_노드_id_가_노드_목록에_없으면_시작하지_않는다() {
+        //given
+        String[] args = {
+                "--server.port=0",
+                "--point.sharding.enabled=true",
+                "--point.sharding.node-id=node-9",
+                "--point.sharding.nodes[0].id=node-0",
+                "--point.sharding.nodes[0].url=http://localhost:1"};
+
+        //when, then
+        assertThatThrownBy(() -> new SpringApplicationBuilder(TddApplication.class).run(args).close())
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("point.sharding.node-id node-9 is not in point.sharding.nodes [node-0]");
+    }
+
+    private static PointController controller(int node) {
+        return nodes.get(node).getBean(PointController.class);
+    }
+
+    private static PointPartitionRouter router(int node) {
+        return nodes.get(node).getBean(PointPartitionRouter.class);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.domain.point.PointSummary;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryProperties;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.PointSummaryAggregator;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+public class PointSummaryTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 충전과_사용이_집계된다() {
+        //given
+        long userId = 701L;
+        pointService.charge(userId, 1000L, TransactionType.CHARGE);
+        pointService.charge(userId, 500L, TransactionType.CHARGE);
+        pointService.use(userId, 300L, TransactionType.USE);
+        assertThatThrownBy(() -> pointService.use(userId, 5000L, TransactionType.USE))
+                .isInstanceOf(BizException.class); // 실패한 요청은 집계되지 않는다.
+
+        //when
+        PointSummary result = pointService.getSummary(userId);
+
+        //then
+        assertThat(result.totalCharged()).isEqualTo(1500L);
+        assertThat(result.totalUsed()).isEqualTo(300L);
+        assertThat(result.chargeCount()).isEqualTo(2L);
+        assertThat(result.useCount()).isEqualTo(1L);
+        assertThat(result.firstUpdateMillis()).isLessThanOrEqualTo(result.lastUpdateMillis());
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_집계를_반환한다() {
+        //when
+        PointSummary result = pointService.getSummary(799L);
+
+        //then
+        assertThat(result).isEqualTo(PointSummary.empty(799L));
+    }
+
+    /**
+     * 재시작 후 저장소에 남아 있는 내역으로 집계를 다시 계산한다.
+     */
+    @Test
+    void 시작할_때_내역으로_집계를_다시_계산한다() {
+        //given
+        MappedPointHistoryProperties properties = new MappedPointHistoryProperties(directory.toString(), DataSize.ofKilobytes(4), false);
+        MappedPointHistoryStore store = new MappedPointHistoryStore(properties);
+        store.insert(1L, 100L, TransactionType.CHARGE, 1000L);
+        store.insert(2L, 200L, TransactionType.CHARGE, 2000L);
+        store.insert(1L, 30L, TransactionType.USE, 3000L);
+        store.close();
+
+        //when
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(new MappedPointHistoryStore(properties));
+        aggregator.rebuild();
+
+        //then
+        assertThat(aggregator.get(1L)).isEqualTo(new PointSummary(1L, 100L, 30L, 1L, 1L, 1000L, 3000L));
+        assertThat(aggregator.get(2L)).isEqualTo(new PointSummary(2L, 200L, 0L, 1L, 0L, 2000L, 2000L));
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.PointService;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 가상 스레드 모드 테스트 (Java 21 이상에서만 실행)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+public class PointVirtualThreadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointVirtualThreadTest.class);
+
+    private static final int PLATFORM_THREAD_COUNT = 200; // Tomcat 기본 최대 스레드 수
+    private static final int REQUEST_COUNT = 1000;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private WorkerThreads workerThreads;
+
+    /**
+     * 유저별 Lock 대기와 테이블 지연(sleep) 동안 가상 스레드가 캐리어 스레드를 붙잡고 있지(pinning) 않는지 확인한다.
+     */
+    @Test
+    void 가상_스레드에서_충전해도_캐리어_스레드가_고정되지_않는다() throws InterruptedException {
+        LongAdder pinnedCount = new LongAdder();
+        try (RecordingStream recordingStream = new RecordingStream()) {
+            recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20));
+            recordingStream.onEvent("jdk.VirtualThreadPinned", event -> pinnedCount.increment());
+            recordingStream.startAsync();
+
+            List<Thread> threads = new ArrayList<>();
+            ThreadFactory threadFactory = workerThreads.factory("point-test-");
+            for (int i = 0; i < 20; i++) {
+                threads.add(threadFactory.newThread(() -> pointService.charge(301L, 10L, TransactionType.CHARGE)));
+            }
+            for (long userId = 400L; userId < 600L; userId++) {
+                long id = userId;
+                threads.add(threadFactory.newThread(() -> pointService.charge(id, 10L, TransactionType.CHARGE)));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            TimeUnit.SECONDS.sleep(2); // JFR 이벤트가 flush 될 때까지 대기
+        }
+
+        assertThat(workerThreads.isVirtual()).isTrue();
+        assertThat(pointService.get(301L).point()).isEqualTo(200L);
+        assertThat(pinnedCount.sum()).isZero();
+    }
+
+    /**
+     * 동시에 처리 중인 요청 수의 상한을 플랫폼 스레드 풀(200개)과 가상 스레드로 비교한다.
+     */
+    @Test
+    void 가상_스레드는_플랫폼_스레드_풀보다_많은_요청을_동시에_처리한다() throws InterruptedException {
+        CustomizableThreadFactory platformThreadFactory = new CustomizableThreadFactory("point-platform-");
+        LoadResult platform = runLoad(platformThreadFactory, PLATFORM_THREAD_COUNT, 10_000L);
+        LoadResult virtual = runLoad(workerThreads.factory("point-virtual-"), REQUEST_COUNT, 20_000L);
+
+        log.info("platform threads : peak in-flight={}, elapsed={}ms", platform.peakInFlight(), platform.elapsedMillis());
+        log.info("virtual threads  : peak in-flight={}, elapsed={}ms", virtual.peakInFlight(), virtual.elapsedMillis());
+
+        assertThat(platform.peakInFlight()).isLessThanOrEqualTo(PLATFORM_THREAD_COUNT);
+        assertThat(virtual.peakInFlight()).isGreaterThan(PLATFORM_THREAD_COUNT);
+    }
+
+    // workerCount 개의 스레드가 REQUEST_COUNT 개의 잔액 조회 요청을 나눠서 처리한다.
+    private LoadResult runLoad(ThreadFactory threadFactory, int workerCount, long firstUserId) throws InterruptedException {
+        AtomicInteger nextRequest = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(threadFactory.newThread(() -> {
+                for (int request = nextRequest.getAndIncrement(); request < REQUEST_COUNT; request = nextRequest.getAndIncrement()) {
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        pointService.get(firstUserId + request);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new LoadResult(peakInFlight.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private record LoadResult(int peakInFlight, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,216 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.domain.point.PointHistory;
+import io.hhplus.tdd.infrastructure.point.MappedPointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.OffHeapUserPointStore;
+import io.hhplus.tdd.infrastructure.point.PointHistoryIndex;
+import io.hhplus.tdd.infrastructure.point.PointHistoryStore;
+import io.hhplus.tdd.infrastructure.point.PointStorageProperties;
+import io.hhplus.tdd.infrastructure.point.PointSummaryAggregator;
+import io.hhplus.tdd.infrastructure.point.PointWriteAheadLog;
+import io.hhplus.tdd.infrastructure.point.PointWriteAheadLogProperties;
+import io.hhplus.tdd.infrastructure.point.TablePointHistoryStore;
+import io.hhplus.tdd.interfaces.api.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PointWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 재시작하면_기록된_내역과_잔액을_복구한다() {
+        //given
+        PointWriteAheadLog wal = open(newHistoryStore(), newBalanceStore());
+        wal.appendHistory(1L, 100L, TransactionType.CHARGE, 1000L);
+        wal.appendBalance(1L, 100L); // 처음 잔액을 저장하는 유저는 기준 잔액을 기록한다.
+        wal.appendHistory(1L, 50L, TransactionType.USE, 2000L);
+        wal.appendBalance(1L, 50L); // 내역으로 계산된 잔액과 같으므로 기록되지 않는다.
+        wal.appendHistory(1L, 30L, TransactionType.USE, 3000L); // 잔액 저장 전에 종료된 경우
+        wal.appendBalance(2L, 500L); // 내역 없이 잔액만 바꾼 경우
+        wal.close();
+
+        //when
+        PointHistoryStore historyStore = newHistoryStore();
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointWriteAheadLog restored = open(historyStore, balanceStore);
+
+        //then
+        assertThat(restored.durableSeq()).isEqualTo(5L);
+        assertThat(historyStore.selectAllByUserId(1L))
+                .extracting(PointHistory::amount, PointHistory::type)
+                .containsExactly(tuple(100L, TransactionType.CHARGE), tuple(50L, TransactionType.USE), tuple(30L, TransactionType.USE));
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(20L);
+        assertThat(balanceStore.selectById(2L).point()).isEqualTo(500L);
+    }
+
+    @Test
+    void 손상된_마지막_레코드는_잘라낸다() throws IOException {
+        //given
+        PointWriteAheadLog wal = open(newHistoryStore(), newBalanceStore());
+        wal.appendHistory(1L, 100L, TransactionType.CHARGE, 1000L);
+        wal.appendHistory(1L, 50L, TransactionType.CHARGE, 2000L);
+        wal.close();
+
+        Path file = directory.resolve("point.wal");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), 40L); // 기록 도중 종료되어 두 번째 레코드가 온전하지 않은 상태
+        }
+
+        //when
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointWriteAheadLog restored = open(newHistoryStore(), balanceStore);
+
+        //then
+        assertThat(restored.durableSeq()).isEqualTo(1L);
+        assertThat(Files.size(file)).isEqualTo(32L);
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(100L);
+    }
+
+    @Test
+    void 취소된_내역은_복구하지_않는다() {
+        //given
+        PointWriteAheadLog wal = open(newHistoryStore(), newBalanceStore());
+        wal.appendHistory(1L, 100L, TransactionType.CHARGE, 1000L);
+        wal.appendBalance(1L, 100L);
+        long seq = wal.appendHistory(1L, 40L, TransactionType.USE, 2000L);
+        wal.abort(seq, 1L, 40L, TransactionType.USE); // 저장소 반영에 실패한 경우
+        wal.appendBalance(1L, 100L); // 취소된 내역을 뺀 잔액과 같으므로 기록되지 않는다.
+        wal.close();
+
+        //when
+        PointHistoryStore historyStore = newHistoryStore();
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointWriteAheadLog restored = open(historyStore, balanceStore);
+
+        //then
+        assertThat(restored.durableSeq()).isEqualTo(4L);
+        assertThat(historyStore.selectAllByUserId(1L))
+                .extracting(PointHistory::amount, PointHistory::type)
+                .containsExactly(tuple(100L, TransactionType.CHARGE));
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(100L);
+    }
+
+    @Test
+    void 저장에_실패하면_이후의_기록은_모두_거절한다() {
+        //given
+        PointWriteAheadLog wal = open(newHistoryStore(), newBalanceStore());
+        wal.appendHistory(1L, 100L, TransactionType.CHARGE, 1000L);
+        wal.close(); // 이후의 write 가 실패한다.
+
+        //when, then
+        assertThatThrownBy(() -> wal.appendHistory(1L, 50L, TransactionType.CHARGE, 2000L))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(wal.durableSeq()).isEqualTo(1L);
+        assertThatThrownBy(() -> wal.appendHistory(1L, 10L, TransactionType.CHARGE, 3000L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(wal.durableSeq()).isEqualTo(1L);
+    }
+
+    @Test
+    void 동시에_기록한_레코드가_모두_저장된다() throws InterruptedException {
+        //given
+        PointWriteAheadLog wal = open(mock(PointHistoryStore.class), newBalanceStore());
+        int threadCount = 8;
+        int recordCount = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < recordCount; j++) {
+                        wal.appendHistory(userId, 10L, TransactionType.CHARGE, j);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        wal.close();
+
+        //then
+        PointHistoryStore historyStore = mock(PointHistoryStore.class);
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointWriteAheadLog restored = open(historyStore, balanceStore);
+        assertThat(restored.durableSeq()).isEqualTo((long) threadCount * recordCount);
+        verify(historyStore, times(threadCount * recordCount)).insert(anyLong(), eq(10L), eq(TransactionType.CHARGE), anyLong());
+        for (long userId = 1L; userId <= threadCount; userId++) {
+            assertThat(balanceStore.selectById(userId).point()).isEqualTo(10L * recordCount);
+        }
+    }
+
+    /**
+     * 기억하는 유저 수를 넘어 잊은 유저는 로그 기준 잔액을 모르므로, 잔액을 저장할 때 다시 기록한다.
+     */
+    @Test
+    void 기억하는_유저_수를_넘으면_밀려난_유저의_잔액은_다시_기록한다() {
+        //given
+        PointWriteAheadLog wal = open(newHistoryStore(), newBalanceStore(), 1);
+        wal.appendBalance(1L, 100L);
+        wal.appendBalance(2L, 200L); // 유저 1 은 밀려난다.
+
+        //when
+        wal.appendHistory(1L, 10L, TransactionType.CHARGE, 1000L);
+        wal.appendBalance(1L, 110L);
+        wal.appendHistory(1L, 10L, TransactionType.CHARGE, 2000L);
+        wal.appendBalance(1L, 120L); // 다시 기억하므로 기록되지 않는다.
+        wal.close();
+
+        //then
+        OffHeapUserPointStore balanceStore = newBalanceStore();
+        PointWriteAheadLog restored = open(newHistoryStore(), balanceStore, 1);
+        assertThat(restored.durableSeq()).isEqualTo(5L);
+        assertThat(balanceStore.selectById(1L).point()).isEqualTo(120L);
+        assertThat(balanceStore.selectById(2L).point()).isEqualTo(200L);
+    }
+
+    @Test
+    void 내역_저장소가_mapped_이면_사용할_수_없다() {
+        //given
+        PointWriteAheadLogProperties properties = new PointWriteAheadLogProperties(true, directory.toString(), 10_000);
+        MappedPointHistoryStore mappedStore = mock(MappedPointHistoryStore.class);
+
+        //when, then
+        assertThatThrownBy(() -> new PointWriteAheadLog(properties, newBalanceStore(), mappedStore, new PointSummaryAggregator(mappedStore)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private PointWriteAheadLog open(PointHistoryStore historyStore, OffHeapUserPointStore balanceStore) {
+        return open(historyStore, balanceStore, 10_000);
+    }
+
+    private PointWriteAheadLog open(PointHistoryStore historyStore, OffHeapUserPointStore balanceStore, int maxTrackedUsers) {
+        return new PointWriteAheadLog(new PointWriteAheadLogProperties(true, directory.toString(), maxTrackedUsers),
+                balanceStore, historyStore, new PointSummaryAggregator(historyStore));
+    }
+
+    private static PointHistoryStore newHistoryStore() {
+        return new TablePointHistoryStore(new PointHistoryTable(), new PointHistoryIndex());
+    }
+
+    private static OffHeapUserPointStore newBalanceStore() {
+        return new OffHeapUserPointStore(new PointStorageProperties("off-heap", 16, "table"));
+    }
+}
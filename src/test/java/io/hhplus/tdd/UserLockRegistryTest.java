@@ -0,0 +1,90 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.UserLockRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class UserLockRegistryTest {
+
+    private final int THREAD_COUNT = 10; // 동시에 실행할 스레드 개수
+
+    @Test
+    void 사용이_끝난_유저의_Lock_은_제거된다() {
+        //given
+        UserLockRegistry userLocks = new UserLockRegistry();
+
+        //when
+        for (long userId = 1L; userId <= 10_000L; userId++) {
+            userLocks.lock(userId);
+            userLocks.unlock(userId);
+        }
+
+        //then
+        assertThat(userLocks.size()).isZero();
+    }
+
+    @Test
+    void Lock_을_기다리는_스레드가_있으면_Lock_이_유지된다() throws InterruptedException {
+        //given
+        UserLockRegistry userLocks = new UserLockRegistry();
+        userLocks.lock(1L);
+
+        Thread waiter = new Thread(() -> {
+            userLocks.lock(1L);
+            userLocks.unlock(1L);
+        });
+        waiter.start();
+        while (userLocks.queueLength(1L) < 2) {
+            Thread.onSpinWait();
+        }
+
+        //when
+        userLocks.unlock(1L);
+        waiter.join();
+
+        //then
+        assertThat(userLocks.size()).isZero();
+    }
+
+    /**
+     * Lock 이 제거되고 다시 만들어지는 중에도 같은 유저에 대한 상호 배제가 유지되는지 확인한다.
+     */
+    @Test
+    void 같은_유저에_대한_상호_배제가_유지된다() throws InterruptedException {
+        //given
+        UserLockRegistry userLocks = new UserLockRegistry();
+        long[] counter = new long[1];
+        int incrementCount = 10_000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementCount; j++) {
+                        userLocks.lock(1L);
+                        try {
+                            counter[0]++;
+                        } finally {
+                            userLocks.unlock(1L);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        //then
+        assertThat(counter[0]).isEqualTo((long) THREAD_COUNT * incrementCount);
+        assertThat(userLocks.size()).isZero();
+    }
+}
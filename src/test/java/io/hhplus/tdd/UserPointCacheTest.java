@@ -0,0 +1,112 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.infrastructure.point.UserPointCache;
+import io.hhplus.tdd.infrastructure.point.UserPointCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class UserPointCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 저장된_잔액은_캐시에서_조회된다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(10, Duration.ofMinutes(1)), meterRegistry);
+        cache.put(new UserPoint(1L, 100L, System.currentTimeMillis()));
+
+        //when
+        UserPoint result = cache.get(1L);
+
+        //then
+        assertThat(result.point()).isEqualTo(100L);
+        assertThat(cache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 조회_결과는_저장된_잔액을_덮어쓰지_않는다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(10, Duration.ofMinutes(1)), meterRegistry);
+        cache.put(new UserPoint(1L, 200L, System.currentTimeMillis()));
+
+        //when
+        cache.fill(new UserPoint(1L, 100L, System.currentTimeMillis()));
+
+        //then
+        assertThat(cache.get(1L).point()).isEqualTo(200L);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용되지_않은_유저부터_제거된다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(2, Duration.ofMinutes(1)), meterRegistry);
+        cache.put(new UserPoint(1L, 100L, System.currentTimeMillis()));
+        cache.put(new UserPoint(2L, 100L, System.currentTimeMillis()));
+        cache.get(1L);
+
+        //when
+        cache.put(new UserPoint(3L, 100L, System.currentTimeMillis()));
+
+        //then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.stats().evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void TTL_이_지난_잔액은_조회되지_않는다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(10, Duration.ZERO), meterRegistry);
+        cache.put(new UserPoint(1L, 100L, System.currentTimeMillis()));
+
+        //when
+        UserPoint result = cache.get(1L);
+
+        //then
+        assertThat(result).isNull();
+        assertThat(cache.stats().missCount()).isEqualTo(1L);
+        assertThat(cache.stats().evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 적중_실패_제거_횟수를_지표로_내보낸다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(1, Duration.ofMinutes(1)), meterRegistry);
+        cache.put(new UserPoint(1L, 100L, System.currentTimeMillis()));
+        cache.put(new UserPoint(2L, 100L, System.currentTimeMillis())); // 유저 1 은 제거된다.
+
+        //when
+        cache.get(1L);
+        cache.get(2L);
+
+        //then
+        assertThat(meterRegistry.get("point.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.evictions").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    /**
+     * 최대 크기가 크면 유저를 여러 segment 로 나눠서 보관하고, 전체 크기는 최대 크기를 넘지 않는다.
+     */
+    @Test
+    void 여러_segment_로_나눠도_최대_크기를_넘지_않는다() {
+        //given
+        UserPointCache cache = new UserPointCache(new UserPointCacheProperties(1000, Duration.ofMinutes(1)), meterRegistry);
+
+        //when
+        for (long id = 1L; id <= 5000L; id++) {
+            cache.put(new UserPoint(id, id, System.currentTimeMillis()));
+        }
+
+        //then
+        assertThat(cache.stats().size()).isEqualTo(1000);
+        assertThat(cache.stats().evictionCount()).isEqualTo(4000L);
+        assertThat(cache.get(5000L).point()).isEqualTo(5000L);
+    }
+}
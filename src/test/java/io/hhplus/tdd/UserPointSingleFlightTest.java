@@ -0,0 +1,97 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.domain.point.UserPoint;
+import io.hhplus.tdd.infrastructure.point.UserPointSingleFlight;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class UserPointSingleFlightTest {
+
+    private final int THREAD_COUNT = 10; // 동시에 실행할 스레드 개수
+
+    @Test
+    void 동시에_들어온_조회는_저장소_호출_하나로_합쳐진다() throws InterruptedException {
+        //given
+        UserPointSingleFlight singleFlight = new UserPointSingleFlight();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    singleFlight.load(1L, id -> {
+                        loads.incrementAndGet();
+                        awaitQuietly(release);
+                        return new UserPoint(id, 100L, System.currentTimeMillis());
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        // 나머지 스레드가 모두 진행 중인 조회에 합류할 때까지 기다렸다가 조회를 끝낸다.
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (singleFlight.stats().sharedCount() < THREAD_COUNT - 1 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        release.countDown();
+        latch.await();
+
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.stats()).isEqualTo(new UserPointSingleFlight.Stats(1L, THREAD_COUNT - 1));
+    }
+
+    /**
+     * 진행 중인 조회가 시작된 뒤에 쓰기가 끝났으면, 이후의 조회는 그 조회에 합류하지 않고 새 값을 읽는다.
+     */
+    @Test
+    void 쓰기가_끝난_뒤의_조회는_이전에_시작된_조회에_합류하지_않는다() throws InterruptedException {
+        //given
+        UserPointSingleFlight singleFlight = new UserPointSingleFlight();
+        AtomicLong stored = new AtomicLong(100L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread slowReader = new Thread(() -> singleFlight.load(1L, id -> {
+            long point = stored.get(); // 쓰기 전의 값을 읽는다.
+            started.countDown();
+            awaitQuietly(release);
+            return new UserPoint(id, point, System.currentTimeMillis());
+        }));
+        slowReader.start();
+        started.await();
+
+        stored.set(200L);
+        singleFlight.written(1L);
+
+        //when
+        UserPoint result = singleFlight.load(1L, id -> new UserPoint(id, stored.get(), System.currentTimeMillis()));
+        release.countDown();
+        slowReader.join();
+
+        //then
+        assertThat(result.point()).isEqualTo(200L);
+        assertThat(singleFlight.stats().loadCount()).isEqualTo(2L);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}